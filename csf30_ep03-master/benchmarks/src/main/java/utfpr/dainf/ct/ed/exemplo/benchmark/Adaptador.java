@@ -0,0 +1,31 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.stream.Stream;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Interface comum às estruturas comparadas nos benchmarks. Os nós retornados
+ * por {@link #pesquisa(int)} são opacos e só podem ser passados de volta para
+ * {@link #sucessor(Object)} e {@link #predecessor(Object)} da mesma estrutura.
+ */
+public interface Adaptador {
+
+    void insere(int chave);
+
+    Object pesquisa(int chave);
+
+    void exclui(int chave);
+
+    Object sucessor(Object no);
+
+    Object predecessor(Object no);
+
+    void percorre(Blackhole bh);
+
+    int tamanho();
+
+    Stream<Integer> stream();
+}
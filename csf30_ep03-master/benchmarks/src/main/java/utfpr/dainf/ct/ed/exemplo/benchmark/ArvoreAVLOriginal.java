@@ -0,0 +1,243 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Cópia da inserção original da árvore AVL, usada como referência da
+ * inserção com fatores de balanço mantidos incrementalmente. Após cada
+ * inserção, o fator de todos os ancestrais é recalculado com
+ * {@link #calculaAltura(ArvoreAVLOriginal)}, que percorre a subárvore
+ * inteira, e depois de uma rotação os fatores da árvore toda são
+ * recalculados, o que torna cada inserção O(n) ou pior.
+ *
+ * <p>
+ * A classe é independente de {@link utfpr.dainf.ct.ed.exemplo.ArvoreAVL},
+ * cujos nós mantêm tamanho e altura, e reproduz apenas a inserção e a
+ * pesquisa. As rotações atualizam também o pai da subárvore que troca de
+ * lado, correção sem a qual a árvore original ficava inconsistente.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+class ArvoreAVLOriginal<E extends Comparable<E>> {
+
+    E valor;
+    ArvoreAVLOriginal<E> esquerda;
+    ArvoreAVLOriginal<E> direita;
+    ArvoreAVLOriginal<E> pai;
+    byte fb;
+
+    ArvoreAVLOriginal(E valor) {
+        this.valor = valor;
+    }
+
+    static int calculaAltura(ArvoreAVLOriginal<?> node) {
+        if (node == null) {
+            return -1;
+        }
+        return Math.max(calculaAltura(node.esquerda), calculaAltura(node.direita)) + 1;
+    }
+
+    ArvoreAVLOriginal<E> getRoot() {
+        ArvoreAVLOriginal<E> raiz = this;
+        while (raiz.pai != null) {
+            raiz = raiz.pai;
+        }
+        return raiz;
+    }
+
+    ArvoreAVLOriginal<E> pesquisa(E value) {
+        if (value.compareTo(this.valor) == 0) {
+            return this;
+        } else if (value.compareTo(this.valor) < 0) {
+            return esquerda == null ? null : esquerda.pesquisa(value);
+        } else {
+            return direita == null ? null : direita.pesquisa(value);
+        }
+    }
+
+    ArvoreAVLOriginal<E> getMinimo() {
+        ArvoreAVLOriginal<E> retorno = getRoot();
+        while (retorno.esquerda != null) {
+            retorno = retorno.esquerda;
+        }
+        return retorno;
+    }
+
+    ArvoreAVLOriginal<E> sucessor(ArvoreAVLOriginal<E> node) {
+        node = getRoot().pesquisa(node.valor);
+        if (node == null) {
+            return null;
+        }
+        if (node.direita != null) {
+            ArvoreAVLOriginal<E> retorno = node.direita;
+            while (retorno.esquerda != null) {
+                retorno = retorno.esquerda;
+            }
+            return retorno;
+        }
+        ArvoreAVLOriginal<E> pai = node.pai;
+        while (pai != null && node == pai.direita) {
+            node = pai;
+            pai = pai.pai;
+        }
+        return pai;
+    }
+
+    ArvoreAVLOriginal<E> predecessor(ArvoreAVLOriginal<E> node) {
+        node = getRoot().pesquisa(node.valor);
+        if (node == null) {
+            return null;
+        }
+        if (node.esquerda != null) {
+            ArvoreAVLOriginal<E> retorno = node.esquerda;
+            while (retorno.direita != null) {
+                retorno = retorno.direita;
+            }
+            return retorno;
+        }
+        ArvoreAVLOriginal<E> pai = node.pai;
+        while (pai != null && node == pai.esquerda) {
+            node = pai;
+            pai = pai.pai;
+        }
+        return pai;
+    }
+
+    private ArvoreAVLOriginal<E> inserir(ArvoreAVLOriginal<E> node) {
+        if (node.valor.compareTo(this.valor) < 0) {
+            if (this.esquerda == null) {
+                this.esquerda = node;
+                node.pai = this;
+                return node;
+            } else {
+                return this.esquerda.inserir(node);
+            }
+        } else {
+            if (this.direita == null) {
+                this.direita = node;
+                node.pai = this;
+                return node;
+            } else {
+                return this.direita.inserir(node);
+            }
+        }
+    }
+
+    private ArvoreAVLOriginal<E> rotacaoEsquerda(ArvoreAVLOriginal<E> x) {
+        ArvoreAVLOriginal<E> raiz = getRoot();
+        ArvoreAVLOriginal<E> y = x.direita;
+
+        x.direita = y.esquerda;
+        if (y.esquerda != null) {
+            y.esquerda.pai = x;
+        }
+        y.pai = x.pai;
+
+        if (x.pai == null) {
+            raiz = y;
+        } else if (x == x.pai.esquerda) {
+            x.pai.esquerda = y;
+        } else {
+            x.pai.direita = y;
+        }
+
+        y.esquerda = x;
+        x.pai = y;
+        return raiz;
+    }
+
+    private ArvoreAVLOriginal<E> rotacaoDireita(ArvoreAVLOriginal<E> y) {
+        ArvoreAVLOriginal<E> raiz = getRoot();
+        ArvoreAVLOriginal<E> x = y.esquerda;
+
+        y.esquerda = x.direita;
+        if (x.direita != null) {
+            x.direita.pai = y;
+        }
+        x.pai = y.pai;
+
+        if (y.pai == null) {
+            raiz = x;
+        } else if (y == y.pai.esquerda) {
+            y.pai.esquerda = x;
+        } else {
+            y.pai.direita = x;
+        }
+
+        x.direita = y;
+        y.pai = x;
+        return raiz;
+    }
+
+    private ArvoreAVLOriginal<E> rotacao(ArvoreAVLOriginal<E> p, ArvoreAVLOriginal<E> q) {
+        ArvoreAVLOriginal<E> raiz = getRoot();
+        ArvoreAVLOriginal<E> u = q;
+
+        while (u.pai != p && u.pai != null) {
+            u = u.pai;
+        }
+
+        if (p.fb < 0) {
+            if (u.fb < 0) {
+                raiz = raiz.rotacaoDireita(p);
+            } else {
+                raiz = raiz.rotacaoEsquerda(p.esquerda);
+                raiz = raiz.rotacaoDireita(p);
+            }
+        } else {
+            if (u.fb > 0) {
+                raiz = raiz.rotacaoEsquerda(p);
+            } else {
+                raiz = raiz.rotacaoDireita(p.direita);
+                raiz = raiz.rotacaoEsquerda(p);
+            }
+        }
+        return raiz;
+    }
+
+    private void ajustaFbInsercao(ArvoreAVLOriginal<E> node) {
+        ArvoreAVLOriginal<E> comp = node;
+        while (comp != null) {
+            int a = calculaAltura(comp.esquerda);
+            int b = calculaAltura(comp.direita);
+            comp.fb = (byte) (b - a);
+            comp = comp.pai;
+        }
+    }
+
+    private void ajustaFbExclusao() {
+        ArvoreAVLOriginal<E> comp = getMinimo();
+        while (comp != null) {
+            comp.fb = (byte) (calculaAltura(comp.direita) - calculaAltura(comp.esquerda));
+            comp = sucessor(comp);
+        }
+    }
+
+    /**
+     * Insere o valor especificado com o balanceamento original.
+     *
+     * @param valor O valor a ser inserido
+     * @return O nó inserido
+     */
+    ArvoreAVLOriginal<E> insere(E valor) {
+        ArvoreAVLOriginal<E> node = getRoot().inserir(new ArvoreAVLOriginal<>(valor));
+
+        ArvoreAVLOriginal<E> comp = node;
+        ajustaFbInsercao(node);
+
+        while (comp != null) {
+            if (Math.abs(comp.fb) > 1) {
+                break;
+            }
+            comp = comp.pai;
+        }
+
+        if (comp != null) {
+            rotacao(comp, node);
+            ajustaFbExclusao();
+        }
+
+        return node;
+    }
+}
@@ -0,0 +1,45 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import utfpr.dainf.ct.ed.exemplo.ArvoreAVL;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * {@link ArvoreAVL} com a pesquisa recursiva da versão original, que desce
+ * por chamadas recursivas e compara o valor duas vezes por nível. A inserção e
+ * o formato da árvore são os mesmos da {@link ArvoreAVL}, de modo que a
+ * diferença medida se deve apenas à pesquisa.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+class ArvoreAVLRecursiva<E extends Comparable<E>> extends ArvoreAVL<E> {
+
+    ArvoreAVLRecursiva(E valor) {
+        super(valor);
+    }
+
+    @Override
+    public ArvoreAVLRecursiva<E> insere(E valor) {
+        return (ArvoreAVLRecursiva<E>) insere(new ArvoreAVLRecursiva<>(valor));
+    }
+
+    @Override
+    public ArvoreAVLRecursiva<E> pesquisa(E value) {
+        if (value.compareTo(this.valor) == 0) {
+            return this;
+        } else if (value.compareTo(this.valor) < 0) {
+            if (this.esquerda == null) {
+                return null;
+            } else {
+                return ((ArvoreAVLRecursiva<E>) this.esquerda).pesquisa(value);
+            }
+        } else {
+            if (this.direita == null) {
+                return null;
+            } else {
+                return ((ArvoreAVLRecursiva<E>) this.direita).pesquisa(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import utfpr.dainf.ct.ed.exemplo.ArvoreBinariaPesquisa;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * {@link ArvoreBinariaPesquisa} com a pesquisa recursiva da versão original,
+ * que desce por chamadas recursivas e compara o valor duas vezes por nível. A
+ * inserção e o formato da árvore são os mesmos da
+ * {@link ArvoreBinariaPesquisa}, de modo que a diferença medida se deve
+ * apenas à pesquisa.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+class ArvoreBinariaPesquisaRecursiva<E extends Comparable<E>> extends ArvoreBinariaPesquisa<E> {
+
+    ArvoreBinariaPesquisaRecursiva(E valor) {
+        super(valor);
+    }
+
+    @Override
+    public ArvoreBinariaPesquisaRecursiva<E> insere(E valor) {
+        return (ArvoreBinariaPesquisaRecursiva<E>) insere(new ArvoreBinariaPesquisaRecursiva<>(valor));
+    }
+
+    @Override
+    public ArvoreBinariaPesquisaRecursiva<E> pesquisa(E value) {
+        if (value.compareTo(this.valor) == 0) {
+            return this;
+        } else if (value.compareTo(this.valor) < 0) {
+            if (this.esquerda == null) {
+                return null;
+            } else {
+                return ((ArvoreBinariaPesquisaRecursiva<E>) this.esquerda).pesquisa(value);
+            }
+        } else {
+            if (this.direita == null) {
+                return null;
+            } else {
+                return ((ArvoreBinariaPesquisaRecursiva<E>) this.direita).pesquisa(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utfpr.dainf.ct.ed.exemplo.ArvoreAVL;
+import utfpr.dainf.ct.ed.exemplo.CachePesquisa;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Tempo médio de uma pesquisa na {@link ArvoreAVL} passando por um
+ * {@link CachePesquisa} da capacidade indicada, com as mesmas consultas
+ * concentradas de {@link ZipfBenchmark}. A capacidade 0 pesquisa sem cache.
+ * Os acertos, falhas e despejos de cada iteração são publicados como
+ * contadores auxiliares em {@link Contadores}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CacheBenchmark {
+
+    private static final int CONSULTAS = 1 << 20;
+
+    @Param({"100000", "1000000"})
+    public int n;
+
+    @Param({"0", "1024", "16384"})
+    public int capacidade;
+
+    private ArvoreAVL<Integer> raiz;
+    private CachePesquisa<Integer> cache;
+    private Integer[] consultas;
+    private int i;
+
+    @Setup(Level.Trial)
+    public void constroi() {
+        Random random = new Random(Cenario.SEMENTE);
+        int[] chaves = Distribuicao.ALEATORIA.gera(n, random);
+        raiz = new ArvoreAVL<>(chaves[0]);
+        for (int j = 1; j < n; j++) {
+            raiz.insere(chaves[j]);
+        }
+        raiz = (ArvoreAVL<Integer>) raiz.getRoot();
+        cache = capacidade == 0 ? null : new CachePesquisa<>(capacidade);
+
+        int[] permutacao = Distribuicao.ALEATORIA.gera(n, random);
+        Zipf zipf = new Zipf(n, random);
+        consultas = new Integer[CONSULTAS];
+        for (int j = 0; j < CONSULTAS; j++) {
+            consultas[j] = permutacao[zipf.proximo()];
+        }
+    }
+
+    /**
+     * Contadores do cache publicados pelo JMH junto com o tempo médio, inclusive
+     * no arquivo de resultados. Recebem os totais do cache na iteração
+     * corrente, zerados a cada iteração.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Contadores {
+
+        public long acertos;
+        public long falhas;
+        public long despejos;
+
+        @Setup(Level.Iteration)
+        public void zera() {
+            acertos = 0;
+            falhas = 0;
+            despejos = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void zeraContadores() {
+        if (cache != null) {
+            cache.zeraContadores();
+        }
+    }
+
+    @Benchmark
+    public Object pesquisa(Contadores contadores) {
+        Integer valor = consultas[i++ & (CONSULTAS - 1)];
+        if (cache == null) {
+            return raiz.pesquisa(valor);
+        }
+        Object no = raiz.pesquisa(valor, cache);
+        contadores.acertos = cache.getAcertos();
+        contadores.falhas = cache.getFalhas();
+        contadores.despejos = cache.getDespejos();
+        return no;
+    }
+}
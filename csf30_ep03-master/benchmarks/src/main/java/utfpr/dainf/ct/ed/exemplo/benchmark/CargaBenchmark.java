@@ -0,0 +1,73 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utfpr.dainf.ct.ed.exemplo.ArvoreAVL;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Tempo para carregar uma árvore AVL: inserções sucessivas comparadas com a
+ * construção a partir de valores ordenados e a partir de valores em qualquer
+ * ordem.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CargaBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int n;
+
+    private List<Integer> ordenados;
+    private List<Integer> aleatorios;
+
+    @Setup(Level.Trial)
+    public void geraChaves() {
+        Integer[] valores = new Integer[n];
+        int[] chaves = Distribuicao.ALEATORIA.gera(n, new Random(Cenario.SEMENTE));
+        for (int i = 0; i < n; i++) {
+            valores[i] = chaves[i];
+        }
+        aleatorios = Arrays.asList(valores.clone());
+        Arrays.sort(valores);
+        ordenados = Arrays.asList(valores);
+    }
+
+    @Benchmark
+    public ArvoreAVL<Integer> insereOrdenados() {
+        ArvoreAVL<Integer> raiz = new ArvoreAVL<>(ordenados.get(0));
+        for (int i = 1; i < n; i++) {
+            raiz.insere(ordenados.get(i));
+        }
+        return raiz;
+    }
+
+    @Benchmark
+    public ArvoreAVL<Integer> constroiOrdenada() {
+        return ArvoreAVL.constroiOrdenada(ordenados);
+    }
+
+    @Benchmark
+    public ArvoreAVL<Integer> constroiDesordenada() {
+        return ArvoreAVL.constroi(aleatorios);
+    }
+}
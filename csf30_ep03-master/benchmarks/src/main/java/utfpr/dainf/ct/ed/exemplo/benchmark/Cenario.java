@@ -0,0 +1,68 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.Random;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Parâmetros comuns aos benchmarks: número de chaves, sequência de chaves e
+ * estrutura avaliada.
+ */
+@State(Scope.Benchmark)
+public class Cenario {
+
+    /**
+     * Semente fixa para que todas as estruturas recebam as mesmas chaves.
+     */
+    public static final long SEMENTE = 20181018L;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int n;
+
+    @Param({"SEQUENCIAL", "ALEATORIA", "ZIPF", "ADVERSARIA"})
+    public Distribuicao distribuicao;
+
+    @Param({"AVL", "VETORIAL", "BMAIS", "TREEMAP"})
+    public Estrutura estrutura;
+
+    /**
+     * As chaves na ordem em que são inseridas.
+     */
+    public int[] chaves;
+
+    @Setup(Level.Trial)
+    public void geraChaves() {
+        chaves = distribuicao.gera(n, new Random(SEMENTE));
+    }
+
+    /**
+     * Cria a estrutura e insere todas as chaves do cenário.
+     *
+     * @return A estrutura preenchida
+     */
+    public Adaptador constroi() {
+        Adaptador adaptador = estrutura.cria();
+        for (int chave : chaves) {
+            adaptador.insere(chave);
+        }
+        return adaptador;
+    }
+
+    /**
+     * Sorteia chaves presentes na estrutura para consultas, segundo a
+     * distribuição do cenário: uniformes em geral e concentradas em poucas
+     * chaves com a distribuição ZIPF.
+     *
+     * @param quantidade O número de consultas (potência de 2)
+     * @return As chaves a consultar
+     */
+    public int[] consultas(int quantidade) {
+        return distribuicao.consultas(chaves, quantidade, new Random(SEMENTE + 1));
+    }
+}
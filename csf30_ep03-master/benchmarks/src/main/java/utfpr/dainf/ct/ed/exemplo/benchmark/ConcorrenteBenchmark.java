@@ -0,0 +1,121 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Vazão de uma mistura de pesquisas e alterações feitas por várias threads
+ * sobre a mesma estrutura. Cada medida divide {@link #OPERACOES} operações
+ * entre as threads de um pool com o número de threads indicado. As escritas
+ * de cada thread alternam a inserção de uma chave sorteada e a exclusão dessa
+ * mesma chave, de modo que o tamanho da estrutura permanece próximo de
+ * {@code n}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcorrenteBenchmark {
+
+    /**
+     * Operações executadas em cada medida, somadas todas as threads.
+     */
+    public static final int OPERACOES = 1 << 16;
+
+    @Param({"1000000"})
+    public int n;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    public int threads;
+
+    @Param({"95", "50"})
+    public int percentualLeitura;
+
+    @Param({"SINCRONIZADA", "STAMPED", "SEM_BLOQUEIO", "SKIPLIST"})
+    public EstruturaConcorrente estrutura;
+
+    private ConjuntoConcorrente conjunto;
+    private ExecutorService pool;
+    private List<Callable<Void>> tarefas;
+
+    @Setup(Level.Trial)
+    public void constroi() {
+        conjunto = estrutura.cria();
+        for (int chave : Distribuicao.ALEATORIA.gera(n, new Random(Cenario.SEMENTE))) {
+            conjunto.insere(chave);
+        }
+        pool = Executors.newFixedThreadPool(threads);
+        SplittableRandom sementes = new SplittableRandom(Cenario.SEMENTE);
+        tarefas = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            tarefas.add(new Tarefa(sementes.split(), OPERACOES / threads));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerra() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERACOES)
+    public void mistura() throws Exception {
+        for (Future<Void> futuro : pool.invokeAll(tarefas)) {
+            futuro.get();
+        }
+    }
+
+    private final class Tarefa implements Callable<Void> {
+
+        private final SplittableRandom aleatorio;
+        private final int operacoes;
+        private int pendente = -1;
+
+        Tarefa(SplittableRandom aleatorio, int operacoes) {
+            this.aleatorio = aleatorio;
+            this.operacoes = operacoes;
+        }
+
+        @Override
+        public Void call() {
+            for (int i = 0; i < operacoes; i++) {
+                if (aleatorio.nextInt(100) < percentualLeitura) {
+                    conjunto.contem(aleatorio.nextInt(n));
+                } else if (pendente < 0) {
+                    pendente = aleatorio.nextInt(n);
+                    conjunto.insere(pendente);
+                } else {
+                    conjunto.exclui(pendente);
+                    pendente = -1;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utfpr.dainf.ct.ed.exemplo.ArvoreAVL;
+import utfpr.dainf.ct.ed.exemplo.ArvoreCongelada;
+import utfpr.dainf.ct.ed.exemplo.LongArvoreAVL;
+import utfpr.dainf.ct.ed.exemplo.LongArvoreCongelada;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Latência de pesquisa nas árvores congeladas, na ordem de Eytzinger,
+ * comparadas com as árvores de nós ligados de onde foram obtidas, para
+ * valores genéricos e para chaves {@code long}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CongeladaBenchmark {
+
+    private static final int CONSULTAS = 1 << 16;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int n;
+
+    private ArvoreAVL<Integer> avl;
+    private ArvoreCongelada<Integer> congelada;
+    private LongArvoreAVL longAvl;
+    private LongArvoreCongelada longCongelada;
+    private Integer[] consultas;
+    private long[] consultasLong;
+    private int i;
+
+    @Setup(Level.Trial)
+    public void constroi() {
+        int[] chaves = Distribuicao.ALEATORIA.gera(n, new Random(Cenario.SEMENTE));
+        avl = new ArvoreAVL<>(chaves[0]);
+        longAvl = new LongArvoreAVL();
+        longAvl.insere(chaves[0]);
+        for (int j = 1; j < n; j++) {
+            avl.insere(chaves[j]);
+            longAvl.insere(chaves[j]);
+        }
+        avl = (ArvoreAVL<Integer>) avl.getRoot();
+        congelada = avl.congela();
+        longCongelada = longAvl.congela();
+
+        Random aleatorio = new Random(Cenario.SEMENTE + 1);
+        consultas = new Integer[CONSULTAS];
+        consultasLong = new long[CONSULTAS];
+        for (int j = 0; j < CONSULTAS; j++) {
+            consultas[j] = aleatorio.nextInt(n);
+            consultasLong[j] = consultas[j];
+        }
+    }
+
+    @Benchmark
+    public Object pesquisaAVL() {
+        return avl.pesquisa(consultas[i++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public Object pesquisaCongelada() {
+        return congelada.pesquisa(consultas[i++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public boolean contemLongAVL() {
+        return longAvl.contem(consultasLong[i++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public boolean contemLongCongelada() {
+        return longCongelada.contem(consultasLong[i++ & (CONSULTAS - 1)]);
+    }
+}
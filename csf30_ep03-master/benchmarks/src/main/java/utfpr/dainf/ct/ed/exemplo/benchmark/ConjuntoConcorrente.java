@@ -0,0 +1,17 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Operações comuns às estruturas comparadas nos benchmarks concorrentes. As
+ * implementações devem aceitar chamadas simultâneas de várias threads.
+ */
+public interface ConjuntoConcorrente {
+
+    boolean contem(int chave);
+
+    void insere(int chave);
+
+    void exclui(int chave);
+}
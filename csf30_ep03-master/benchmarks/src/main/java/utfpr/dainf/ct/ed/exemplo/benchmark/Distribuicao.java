@@ -0,0 +1,106 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.Random;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Sequências de chaves usadas nos benchmarks.
+ */
+public enum Distribuicao {
+
+    /**
+     * As chaves 0, 1, ..., n-1 em ordem crescente.
+     */
+    SEQUENCIAL {
+        @Override
+        public int[] gera(int n, Random random) {
+            int[] chaves = new int[n];
+            for (int i = 0; i < n; i++) {
+                chaves[i] = i;
+            }
+            return chaves;
+        }
+    },
+    /**
+     * Uma permutação aleatória das chaves 0, 1, ..., n-1.
+     */
+    ALEATORIA {
+        @Override
+        public int[] gera(int n, Random random) {
+            int[] chaves = SEQUENCIAL.gera(n, random);
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int t = chaves[i];
+                chaves[i] = chaves[j];
+                chaves[j] = t;
+            }
+            return chaves;
+        }
+    },
+    /**
+     * Uma permutação aleatória das chaves 0, 1, ..., n-1, como em
+     * {@link #ALEATORIA}, consultada com distribuição de Zipf: as consultas
+     * se concentram nas primeiras chaves da permutação, espalhadas pelo
+     * intervalo. Como as chaves inseridas não se repetem, todas as estruturas
+     * armazenam as mesmas n chaves.
+     */
+    ZIPF {
+        @Override
+        public int[] gera(int n, Random random) {
+            return ALEATORIA.gera(n, random);
+        }
+
+        @Override
+        public int[] consultas(int[] chaves, int quantidade, Random random) {
+            Zipf zipf = new Zipf(chaves.length, random);
+            int[] consultas = new int[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                consultas[i] = chaves[zipf.proximo()];
+            }
+            return consultas;
+        }
+    },
+    /**
+     * As chaves n-1, n-2, ..., 0 em ordem decrescente: o pior caso da árvore
+     * binária de pesquisa sem balanceamento e uma rotação a cada poucas
+     * inserções na árvore AVL.
+     */
+    ADVERSARIA {
+        @Override
+        public int[] gera(int n, Random random) {
+            int[] chaves = new int[n];
+            for (int i = 0; i < n; i++) {
+                chaves[i] = n - 1 - i;
+            }
+            return chaves;
+        }
+    };
+
+    /**
+     * Gera a sequência de chaves.
+     *
+     * @param n O número de chaves
+     * @param random A fonte de números aleatórios
+     * @return As chaves na ordem em que devem ser usadas
+     */
+    public abstract int[] gera(int n, Random random);
+
+    /**
+     * Sorteia consultas entre as chaves geradas. Por padrão todas as chaves
+     * têm a mesma chance de ser consultadas.
+     *
+     * @param chaves As chaves geradas por {@link #gera(int, Random)}
+     * @param quantidade O número de consultas
+     * @param random A fonte de números aleatórios
+     * @return As chaves a consultar
+     */
+    public int[] consultas(int[] chaves, int quantidade, Random random) {
+        int[] consultas = new int[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            consultas[i] = chaves[random.nextInt(chaves.length)];
+        }
+        return consultas;
+    }
+}
@@ -0,0 +1,112 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import utfpr.dainf.ct.ed.exemplo.ArvoreBinariaPesquisaSemBloqueio;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Teste de estresse de {@link ArvoreBinariaPesquisaSemBloqueio}. Várias
+ * threads inserem e excluem chaves sorteadas num intervalo pequeno, para
+ * forçar a disputa pelos mesmos nós, enquanto pesquisam chaves pares que
+ * nunca são excluídas. Ao final, verifica que:
+ * <ul>
+ * <li>nenhuma pesquisa deixou de encontrar uma chave permanente;</li>
+ * <li>para cada chave, as inserções bem-sucedidas menos as exclusões
+ * bem-sucedidas resultam em 0 ou 1, conforme a chave esteja na árvore;</li>
+ * <li>o percurso por {@code sucessor} e {@code predecessor} a partir do
+ * mínimo e do máximo visita exatamente as chaves presentes, em ordem.</li>
+ * </ul>
+ * Uso: {@code java -cp target/benchmarks.jar
+ * utfpr.dainf.ct.ed.exemplo.benchmark.EstresseSemBloqueio [threads]
+ * [operações por thread] [chaves]}.
+ */
+public class EstresseSemBloqueio {
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 2 * Runtime.getRuntime().availableProcessors();
+        int operacoes = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int chaves = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+
+        // A árvore não é balanceada: as chaves permanentes são inseridas em
+        // ordem aleatória para que a altura fique logarítmica.
+        ArvoreBinariaPesquisaSemBloqueio<Integer> arvore = new ArvoreBinariaPesquisaSemBloqueio<>();
+        for (int chave : Distribuicao.ALEATORIA.gera(chaves, new Random(Cenario.SEMENTE))) {
+            if (chave % 2 == 0) {
+                arvore.insere(chave);
+            }
+        }
+        AtomicIntegerArray saldo = new AtomicIntegerArray(chaves);
+        CyclicBarrier largada = new CyclicBarrier(threads);
+        SplittableRandom sementes = new SplittableRandom(Cenario.SEMENTE);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom aleatorio = sementes.split();
+            tarefas.add(pool.submit(() -> {
+                largada.await();
+                for (int i = 0; i < operacoes; i++) {
+                    int chave = aleatorio.nextInt(chaves);
+                    switch (aleatorio.nextInt(3)) {
+                        case 0:
+                            if (chave % 2 == 1 && arvore.insere(chave)) {
+                                saldo.incrementAndGet(chave);
+                            }
+                            break;
+                        case 1:
+                            if (chave % 2 == 1 && arvore.exclui(chave)) {
+                                saldo.decrementAndGet(chave);
+                            }
+                            break;
+                        default:
+                            int permanente = chave & ~1;
+                            if (!arvore.contem(permanente)) {
+                                throw new AssertionError("Chave permanente não encontrada: " + permanente);
+                            }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+        pool.shutdown();
+
+        List<Integer> presentes = new ArrayList<>();
+        for (int chave = 0; chave < chaves; chave++) {
+            int s = chave % 2 == 0 ? 1 : saldo.get(chave);
+            if (s != 0 && s != 1) {
+                throw new AssertionError("Saldo " + s + " para a chave " + chave);
+            }
+            if (arvore.contem(chave) != (s == 1)) {
+                throw new AssertionError("Presença incorreta da chave " + chave);
+            }
+            if (s == 1) {
+                presentes.add(chave);
+            }
+        }
+        List<Integer> crescente = new ArrayList<>();
+        for (Integer v = arvore.getMinimo(); v != null; v = arvore.sucessor(v)) {
+            crescente.add(v);
+        }
+        List<Integer> decrescente = new ArrayList<>();
+        for (Integer v = arvore.getMaximo(); v != null; v = arvore.predecessor(v)) {
+            decrescente.add(0, v);
+        }
+        if (!crescente.equals(presentes) || !decrescente.equals(presentes)) {
+            throw new AssertionError("Percurso incorreto: " + crescente + " / " + decrescente);
+        }
+        System.out.printf("OK: %d threads, %d operações por thread, %d chaves presentes%n",
+                threads, operacoes, presentes.size());
+    }
+}
@@ -0,0 +1,499 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import org.openjdk.jmh.infra.Blackhole;
+import utfpr.dainf.ct.ed.exemplo.ArvoreAVL;
+import utfpr.dainf.ct.ed.exemplo.ArvoreAVLVetorial;
+import utfpr.dainf.ct.ed.exemplo.ArvoreBMais;
+import utfpr.dainf.ct.ed.exemplo.ArvoreBinaria;
+import utfpr.dainf.ct.ed.exemplo.ArvoreBinariaPesquisa;
+import utfpr.dainf.ct.ed.exemplo.ArvoreRubroNegra;
+import utfpr.dainf.ct.ed.exemplo.ArvoreSplay;
+import utfpr.dainf.ct.ed.exemplo.Percurso;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Estruturas comparadas nos benchmarks.
+ */
+public enum Estrutura {
+
+    /**
+     * {@link ArvoreAVL}.
+     */
+    AVL {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorAVL(ArvoreAVL::new);
+        }
+    },
+    /**
+     * {@link ArvoreRubroNegra}.
+     */
+    RUBRO_NEGRA {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorRubroNegra();
+        }
+    },
+    /**
+     * {@link ArvoreSplay}.
+     */
+    SPLAY {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorSplay(false);
+        }
+    },
+    /**
+     * {@link ArvoreSplay} com semi-splay nas pesquisas.
+     */
+    SEMI_SPLAY {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorSplay(true);
+        }
+    },
+    /**
+     * {@link ArvoreBinariaPesquisa} sem balanceamento. Com sequências ordenadas
+     * a árvore degenera em lista, por isso não faz parte dos parâmetros
+     * padrão; use {@code -p estrutura=ABP} com tamanhos pequenos.
+     */
+    ABP {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorABP(ArvoreBinariaPesquisa::new);
+        }
+    },
+    /**
+     * {@link ArvoreAVLRecursiva}: a {@link ArvoreAVL} com a pesquisa recursiva
+     * original, usada como referência da pesquisa iterativa. Não faz parte dos
+     * parâmetros padrão; use {@code -p estrutura=AVL,AVL_RECURSIVA}.
+     */
+    AVL_RECURSIVA {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorAVL(ArvoreAVLRecursiva::new);
+        }
+    },
+    /**
+     * {@link ArvoreAVLOriginal}: a inserção original da árvore AVL, que
+     * recalcula as alturas percorrendo subárvores inteiras, usada como
+     * referência da inserção incremental. Cada inserção custa O(n) ou mais,
+     * por isso não faz parte dos parâmetros padrão; use
+     * {@code -p estrutura=AVL,AVL_ORIGINAL} com até 10k chaves. A exclusão
+     * original não é reproduzida.
+     */
+    AVL_ORIGINAL {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorAVLOriginal();
+        }
+    },
+    /**
+     * {@link ArvoreBinariaPesquisaRecursiva}: a {@link ArvoreBinariaPesquisa}
+     * com a pesquisa recursiva original. Assim como {@link #ABP}, deve ser
+     * usada com tamanhos pequenos.
+     */
+    ABP_RECURSIVA {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorABP(ArvoreBinariaPesquisaRecursiva::new);
+        }
+    },
+    /**
+     * {@link ArvoreAVLVetorial}, com os nós em vetores paralelos.
+     */
+    VETORIAL {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorVetorial();
+        }
+    },
+    /**
+     * {@link ArvoreBMais} com a ordem padrão.
+     */
+    BMAIS {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorBMais();
+        }
+    },
+    /**
+     * {@link TreeMap} da biblioteca padrão, usado como referência.
+     */
+    TREEMAP {
+        @Override
+        public Adaptador cria() {
+            return new AdaptadorTreeMap();
+        }
+    };
+
+    /**
+     * Cria uma instância vazia da estrutura.
+     *
+     * @return O adaptador da estrutura
+     */
+    public abstract Adaptador cria();
+
+    /**
+     * Converte o nó recebido por {@link Adaptador#sucessor(Object)} e
+     * {@link Adaptador#predecessor(Object)}, que sempre foi obtido do mesmo
+     * adaptador, para o tipo de nó da estrutura.
+     *
+     * @param <N> O tipo de nó da estrutura
+     * @param no O nó
+     * @return O mesmo nó com o tipo da estrutura
+     */
+    @SuppressWarnings("unchecked")
+    private static <N> N comoNo(Object no) {
+        return (N) no;
+    }
+
+    /**
+     * Base dos adaptadores das árvores derivadas de
+     * {@link ArvoreBinariaPesquisa}, que diferem apenas na forma de inserir e
+     * excluir e de acompanhar a raiz.
+     */
+    private abstract static class AdaptadorArvore<T extends ArvoreBinariaPesquisa<Integer>> implements Adaptador {
+
+        protected T raiz;
+
+        @Override
+        public Object pesquisa(int chave) {
+            return raiz.pesquisa(chave);
+        }
+
+        @Override
+        public Object sucessor(Object no) {
+            return raiz.sucessor(comoNo(no));
+        }
+
+        @Override
+        public Object predecessor(Object no) {
+            return raiz.predecessor(comoNo(no));
+        }
+
+        @Override
+        public void percorre(Blackhole bh) {
+            Percurso<Integer> percurso = raiz.percursoEmOrdem();
+            ArvoreBinaria<Integer> no;
+            while ((no = percurso.proximo()) != null) {
+                bh.consume(no.getValor());
+            }
+        }
+
+        @Override
+        public int tamanho() {
+            return raiz == null ? 0 : raiz.getTamanho();
+        }
+
+        @Override
+        public Stream<Integer> stream() {
+            return raiz.stream();
+        }
+    }
+
+    private static final class AdaptadorAVL extends AdaptadorArvore<ArvoreAVL<Integer>> {
+
+        private final IntFunction<ArvoreAVL<Integer>> cria;
+
+        AdaptadorAVL(IntFunction<ArvoreAVL<Integer>> cria) {
+            this.cria = cria;
+        }
+
+        @Override
+        public void insere(int chave) {
+            if (raiz == null) {
+                raiz = cria.apply(chave);
+            } else {
+                raiz.insere(chave);
+                if (raiz.pai != null) {
+                    raiz = (ArvoreAVL<Integer>) raiz.getRoot();
+                }
+            }
+        }
+
+        @Override
+        public void exclui(int chave) {
+            raiz = raiz.exclui(new ArvoreAVL<>(chave));
+        }
+    }
+
+    private static final class AdaptadorRubroNegra extends AdaptadorArvore<ArvoreRubroNegra<Integer>> {
+
+        @Override
+        public void insere(int chave) {
+            if (raiz == null) {
+                raiz = new ArvoreRubroNegra<>(chave);
+            } else {
+                raiz.insere(chave);
+                if (raiz.pai != null) {
+                    raiz = (ArvoreRubroNegra<Integer>) raiz.getRoot();
+                }
+            }
+        }
+
+        @Override
+        public void exclui(int chave) {
+            raiz = raiz.exclui(chave);
+        }
+    }
+
+    private static final class AdaptadorSplay extends AdaptadorArvore<ArvoreSplay<Integer>> {
+
+        private final boolean semiSplay;
+
+        AdaptadorSplay(boolean semiSplay) {
+            this.semiSplay = semiSplay;
+        }
+
+        @Override
+        public void insere(int chave) {
+            raiz = raiz == null ? new ArvoreSplay<>(chave, semiSplay) : raiz.insere(chave);
+        }
+
+        @Override
+        public Object pesquisa(int chave) {
+            ArvoreSplay<Integer> no = raiz.pesquisa(chave);
+            if (raiz.pai != null) {
+                raiz = (ArvoreSplay<Integer>) raiz.getRoot();
+            }
+            return no;
+        }
+
+        @Override
+        public void exclui(int chave) {
+            raiz = raiz.exclui(chave);
+        }
+    }
+
+    private static final class AdaptadorABP extends AdaptadorArvore<ArvoreBinariaPesquisa<Integer>> {
+
+        private final IntFunction<ArvoreBinariaPesquisa<Integer>> cria;
+
+        AdaptadorABP(IntFunction<ArvoreBinariaPesquisa<Integer>> cria) {
+            this.cria = cria;
+        }
+
+        @Override
+        public void insere(int chave) {
+            if (raiz == null) {
+                raiz = cria.apply(chave);
+            } else {
+                raiz.insere(chave);
+            }
+        }
+
+        @Override
+        public void exclui(int chave) {
+            if (raiz.getTamanho() == 1) {
+                raiz = null;
+            } else {
+                raiz.exclui(new ArvoreBinariaPesquisa<>(chave));
+            }
+        }
+    }
+
+    private static final class AdaptadorAVLOriginal implements Adaptador {
+
+        private ArvoreAVLOriginal<Integer> raiz;
+        private int tamanho;
+
+        @Override
+        public void insere(int chave) {
+            if (raiz == null) {
+                raiz = new ArvoreAVLOriginal<>(chave);
+            } else {
+                raiz.insere(chave);
+                raiz = raiz.getRoot();
+            }
+            tamanho++;
+        }
+
+        @Override
+        public Object pesquisa(int chave) {
+            return raiz.pesquisa(chave);
+        }
+
+        @Override
+        public void exclui(int chave) {
+            throw new UnsupportedOperationException("A exclusão original não é reproduzida");
+        }
+
+        @Override
+        public Object sucessor(Object no) {
+            return raiz.sucessor(comoNo(no));
+        }
+
+        @Override
+        public Object predecessor(Object no) {
+            return raiz.predecessor(comoNo(no));
+        }
+
+        @Override
+        public void percorre(Blackhole bh) {
+            for (ArvoreAVLOriginal<Integer> no = raiz.getMinimo(); no != null; no = raiz.sucessor(no)) {
+                bh.consume(no.valor);
+            }
+        }
+
+        @Override
+        public int tamanho() {
+            return tamanho;
+        }
+
+        @Override
+        public Stream<Integer> stream() {
+            Stream.Builder<Integer> valores = Stream.builder();
+            for (ArvoreAVLOriginal<Integer> no = raiz.getMinimo(); no != null; no = raiz.sucessor(no)) {
+                valores.add(no.valor);
+            }
+            return valores.build();
+        }
+    }
+
+    private static final class AdaptadorVetorial implements Adaptador {
+
+        private final ArvoreAVLVetorial<Integer> arvore = new ArvoreAVLVetorial<>();
+
+        @Override
+        public void insere(int chave) {
+            arvore.insere(chave);
+        }
+
+        @Override
+        public Object pesquisa(int chave) {
+            return arvore.pesquisa(chave);
+        }
+
+        @Override
+        public void exclui(int chave) {
+            arvore.exclui(chave);
+        }
+
+        @Override
+        public Object sucessor(Object no) {
+            return arvore.proximoMaior((Integer) no);
+        }
+
+        @Override
+        public Object predecessor(Object no) {
+            return arvore.proximoMenor((Integer) no);
+        }
+
+        @Override
+        public void percorre(Blackhole bh) {
+            for (Integer chave : arvore) {
+                bh.consume(chave);
+            }
+        }
+
+        @Override
+        public int tamanho() {
+            return arvore.getTamanho();
+        }
+
+        @Override
+        public Stream<Integer> stream() {
+            return arvore.stream();
+        }
+    }
+
+    private static final class AdaptadorBMais implements Adaptador {
+
+        private final ArvoreBMais<Integer> arvore = new ArvoreBMais<>();
+
+        @Override
+        public void insere(int chave) {
+            arvore.insere(chave);
+        }
+
+        @Override
+        public Object pesquisa(int chave) {
+            return arvore.pesquisa(chave);
+        }
+
+        @Override
+        public void exclui(int chave) {
+            arvore.exclui(chave);
+        }
+
+        @Override
+        public Object sucessor(Object no) {
+            return arvore.proximoMaior((Integer) no);
+        }
+
+        @Override
+        public Object predecessor(Object no) {
+            return arvore.proximoMenor((Integer) no);
+        }
+
+        @Override
+        public void percorre(Blackhole bh) {
+            for (Integer chave : arvore) {
+                bh.consume(chave);
+            }
+        }
+
+        @Override
+        public int tamanho() {
+            return arvore.getTamanho();
+        }
+
+        @Override
+        public Stream<Integer> stream() {
+            return arvore.stream();
+        }
+    }
+
+    private static final class AdaptadorTreeMap implements Adaptador {
+
+        private final TreeMap<Integer, Boolean> mapa = new TreeMap<>();
+
+        @Override
+        public void insere(int chave) {
+            mapa.put(chave, Boolean.TRUE);
+        }
+
+        @Override
+        public Object pesquisa(int chave) {
+            return mapa.containsKey(chave) ? chave : null;
+        }
+
+        @Override
+        public void exclui(int chave) {
+            mapa.remove(chave);
+        }
+
+        @Override
+        public Object sucessor(Object no) {
+            return mapa.higherKey((Integer) no);
+        }
+
+        @Override
+        public Object predecessor(Object no) {
+            return mapa.lowerKey((Integer) no);
+        }
+
+        @Override
+        public void percorre(Blackhole bh) {
+            for (Integer chave : mapa.keySet()) {
+                bh.consume(chave);
+            }
+        }
+
+        @Override
+        public int tamanho() {
+            return mapa.size();
+        }
+
+        @Override
+        public Stream<Integer> stream() {
+            return mapa.keySet().stream();
+        }
+    }
+}
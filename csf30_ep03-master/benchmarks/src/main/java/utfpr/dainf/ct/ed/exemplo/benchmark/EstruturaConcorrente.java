@@ -0,0 +1,150 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import utfpr.dainf.ct.ed.exemplo.ArvoreAVL;
+import utfpr.dainf.ct.ed.exemplo.ArvoreAVLConcorrente;
+import utfpr.dainf.ct.ed.exemplo.ArvoreBinariaPesquisaSemBloqueio;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Estruturas comparadas nos benchmarks concorrentes.
+ */
+public enum EstruturaConcorrente {
+
+    /**
+     * {@link ArvoreAVL} com todas as operações num bloco {@code synchronized},
+     * que é como a árvore era compartilhada antes de
+     * {@link ArvoreAVLConcorrente}.
+     */
+    SINCRONIZADA {
+        @Override
+        public ConjuntoConcorrente cria() {
+            return new Sincronizada();
+        }
+    },
+    /**
+     * {@link ArvoreAVLConcorrente}, com leituras otimistas.
+     */
+    STAMPED {
+        @Override
+        public ConjuntoConcorrente cria() {
+            return new Stamped();
+        }
+    },
+    /**
+     * {@link ArvoreBinariaPesquisaSemBloqueio}, livre de bloqueio e sem
+     * balanceamento.
+     */
+    SEM_BLOQUEIO {
+        @Override
+        public ConjuntoConcorrente cria() {
+            return new SemBloqueio();
+        }
+    },
+    /**
+     * {@link ConcurrentSkipListSet} da biblioteca padrão, usado como
+     * referência.
+     */
+    SKIPLIST {
+        @Override
+        public ConjuntoConcorrente cria() {
+            return new SkipList();
+        }
+    };
+
+    /**
+     * Cria uma instância vazia da estrutura.
+     *
+     * @return A estrutura
+     */
+    public abstract ConjuntoConcorrente cria();
+
+    private static final class Sincronizada implements ConjuntoConcorrente {
+
+        private ArvoreAVL<Integer> raiz;
+
+        @Override
+        public synchronized boolean contem(int chave) {
+            return raiz != null && raiz.pesquisa(chave) != null;
+        }
+
+        @Override
+        public synchronized void insere(int chave) {
+            if (raiz == null) {
+                raiz = new ArvoreAVL<>(chave);
+            } else {
+                raiz.insere(chave);
+                raiz = (ArvoreAVL<Integer>) raiz.getRoot();
+            }
+        }
+
+        @Override
+        public synchronized void exclui(int chave) {
+            if (raiz != null) {
+                raiz = raiz.exclui(chave);
+            }
+        }
+    }
+
+    private static final class Stamped implements ConjuntoConcorrente {
+
+        private final ArvoreAVLConcorrente<Integer> arvore = new ArvoreAVLConcorrente<>();
+
+        @Override
+        public boolean contem(int chave) {
+            return arvore.contem(chave);
+        }
+
+        @Override
+        public void insere(int chave) {
+            arvore.insere(chave);
+        }
+
+        @Override
+        public void exclui(int chave) {
+            arvore.exclui(chave);
+        }
+    }
+
+    private static final class SemBloqueio implements ConjuntoConcorrente {
+
+        private final ArvoreBinariaPesquisaSemBloqueio<Integer> arvore = new ArvoreBinariaPesquisaSemBloqueio<>();
+
+        @Override
+        public boolean contem(int chave) {
+            return arvore.contem(chave);
+        }
+
+        @Override
+        public void insere(int chave) {
+            arvore.insere(chave);
+        }
+
+        @Override
+        public void exclui(int chave) {
+            arvore.exclui(chave);
+        }
+    }
+
+    private static final class SkipList implements ConjuntoConcorrente {
+
+        private final ConcurrentSkipListSet<Integer> conjunto = new ConcurrentSkipListSet<>();
+
+        @Override
+        public boolean contem(int chave) {
+            return conjunto.contains(chave);
+        }
+
+        @Override
+        public void insere(int chave) {
+            conjunto.add(chave);
+        }
+
+        @Override
+        public void exclui(int chave) {
+            conjunto.remove(chave);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Tempo para excluir todas as chaves do cenário, na ordem em que foram
+ * inseridas, até esvaziar a estrutura.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ExclusaoBenchmark {
+
+    private Adaptador adaptador;
+
+    @Setup(Level.Invocation)
+    public void constroi(Cenario cenario) {
+        adaptador = cenario.constroi();
+    }
+
+    @Benchmark
+    public Adaptador exclui(Cenario cenario) {
+        for (int chave : cenario.chaves) {
+            adaptador.exclui(chave);
+        }
+        return adaptador;
+    }
+}
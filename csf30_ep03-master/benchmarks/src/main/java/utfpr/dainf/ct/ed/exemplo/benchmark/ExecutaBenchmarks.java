@@ -0,0 +1,28 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Executa os benchmarks com as opções de linha de comando do JMH. Se nenhum
+ * formato de resultado for informado ({@code -rf}), os resultados são gravados
+ * em JSON no arquivo {@code jmh-resultado.json}, para comparação entre versões.
+ */
+public class ExecutaBenchmarks {
+
+    public static void main(String[] args) throws Exception {
+        List<String> argumentos = new ArrayList<>(Arrays.asList(args));
+        if (!argumentos.contains("-rf")) {
+            argumentos.addAll(Arrays.asList("-rf", "json"));
+            if (!argumentos.contains("-rff")) {
+                argumentos.addAll(Arrays.asList("-rff", "jmh-resultado.json"));
+            }
+        }
+        Main.main(argumentos.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,92 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utfpr.dainf.ct.ed.exemplo.ArvoreAVL;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Tempo para aplicar um lote de inserções ou exclusões a uma árvore AVL: uma
+ * a uma comparado com {@code insereTodos} e {@code excluiTodos}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoteBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int n;
+
+    @Param({"1000", "10000", "100000"})
+    public int lote;
+
+    private Integer[] chaves;
+    private List<Integer> novos;
+    private List<Integer> existentes;
+    private ArvoreAVL<Integer> raiz;
+
+    @Setup(Level.Trial)
+    public void geraChaves() {
+        Random aleatorio = new Random(Cenario.SEMENTE);
+        chaves = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            chaves[i] = 2 * i;
+        }
+        novos = new ArrayList<>(lote);
+        existentes = new ArrayList<>(lote);
+        for (int i = 0; i < lote; i++) {
+            novos.add(2 * aleatorio.nextInt(n) + 1);
+            existentes.add(2 * aleatorio.nextInt(n));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void constroi() {
+        raiz = ArvoreAVL.constroiOrdenada(chaves);
+    }
+
+    @Benchmark
+    public ArvoreAVL<Integer> insereUmAUm() {
+        for (Integer chave : novos) {
+            raiz.insere(chave);
+        }
+        return raiz;
+    }
+
+    @Benchmark
+    public ArvoreAVL<Integer> insereTodos() {
+        return raiz.insereTodos(novos);
+    }
+
+    @Benchmark
+    public ArvoreAVL<Integer> excluiUmAUm() {
+        for (Integer chave : existentes) {
+            raiz = raiz.exclui(chave);
+        }
+        return raiz;
+    }
+
+    @Benchmark
+    public ArvoreAVL<Integer> excluiTodos() {
+        return raiz.excluiTodos(existentes);
+    }
+}
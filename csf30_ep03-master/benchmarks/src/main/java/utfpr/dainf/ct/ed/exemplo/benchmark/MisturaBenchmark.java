@@ -0,0 +1,84 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Vazão de uma mistura de pesquisas e alterações numa única thread, para
+ * comparar as árvores em diferentes proporções de leitura e escrita. Como em
+ * {@link ConcorrenteBenchmark}, as escritas alternam a inserção de uma chave
+ * sorteada e a exclusão dessa mesma chave, de modo que o tamanho da
+ * estrutura permanece próximo de {@code n}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MisturaBenchmark {
+
+    /**
+     * Operações executadas em cada chamada do benchmark.
+     */
+    public static final int OPERACOES = 1 << 16;
+
+    @Param({"1000000"})
+    public int n;
+
+    @Param({"100", "90", "50", "10"})
+    public int percentualLeitura;
+
+    @Param({"AVL", "RUBRO_NEGRA", "TREEMAP"})
+    public Estrutura estrutura;
+
+    private Adaptador adaptador;
+    private SplittableRandom aleatorio;
+    private int pendente = -1;
+
+    @Setup(Level.Trial)
+    public void constroi() {
+        adaptador = estrutura.cria();
+        for (int chave : Distribuicao.ALEATORIA.gera(n, new Random(Cenario.SEMENTE))) {
+            adaptador.insere(chave);
+        }
+        aleatorio = new SplittableRandom(Cenario.SEMENTE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERACOES)
+    public int mistura() {
+        int encontrados = 0;
+        for (int i = 0; i < OPERACOES; i++) {
+            if (aleatorio.nextInt(100) < percentualLeitura) {
+                if (adaptador.pesquisa(aleatorio.nextInt(n)) != null) {
+                    encontrados++;
+                }
+            } else if (pendente < 0) {
+                pendente = aleatorio.nextInt(n);
+                adaptador.insere(pendente);
+            } else {
+                adaptador.exclui(pendente);
+                pendente = -1;
+            }
+        }
+        return encontrados;
+    }
+}
@@ -0,0 +1,62 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Tempo médio de uma pesquisa por chave existente, seguida das operações de
+ * sucessor e predecessor a partir do nó encontrado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PesquisaBenchmark {
+
+    private static final int CONSULTAS = 1 << 16;
+
+    private Adaptador adaptador;
+    private int[] consultas;
+    private Object[] nos;
+    private int i;
+
+    @Setup(Level.Trial)
+    public void constroi(Cenario cenario) {
+        adaptador = cenario.constroi();
+        consultas = cenario.consultas(CONSULTAS);
+        nos = new Object[CONSULTAS];
+        for (int j = 0; j < CONSULTAS; j++) {
+            nos[j] = adaptador.pesquisa(consultas[j]);
+        }
+    }
+
+    @Benchmark
+    public Object pesquisa() {
+        return adaptador.pesquisa(consultas[i++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public Object sucessor() {
+        return adaptador.sucessor(nos[i++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public Object predecessor() {
+        return adaptador.predecessor(nos[i++ & (CONSULTAS - 1)]);
+    }
+}
@@ -0,0 +1,76 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Vazão de agregações sobre o stream paralelo da árvore em função do número
+ * de núcleos usados. Cada medida executa o stream em um {@link ForkJoinPool}
+ * com o paralelismo indicado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamParaleloBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int n;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int paralelismo;
+
+    @Param({"AVL", "TREEMAP"})
+    public Estrutura estrutura;
+
+    private Adaptador adaptador;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void constroi() {
+        adaptador = estrutura.cria();
+        for (int chave : Distribuicao.ALEATORIA.gera(n, new Random(Cenario.SEMENTE))) {
+            adaptador.insere(chave);
+        }
+        pool = new ForkJoinPool(paralelismo);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerra() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long soma() throws Exception {
+        return pool.submit(() -> adaptador.stream().parallel().mapToLong(Integer::longValue).sum()).get();
+    }
+
+    @Benchmark
+    public long filtra() throws Exception {
+        return pool.submit(() -> adaptador.stream().parallel().filter(chave -> chave % 3 == 0).count()).get();
+    }
+
+    @Benchmark
+    public long maximo() throws Exception {
+        return pool.submit(() -> adaptador.stream().parallel().mapToInt(Integer::intValue).max().getAsInt()).get();
+    }
+}
@@ -0,0 +1,78 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.Random;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Gerador de números com distribuição de Zipf no intervalo [0, n), segundo o
+ * método de Gray et al. ("Quickly Generating Billion-Record Synthetic
+ * Databases"). O valor 0 é o mais frequente.
+ */
+public class Zipf {
+
+    /**
+     * Expoente usado por padrão, o mesmo do YCSB.
+     */
+    public static final double THETA = 0.99;
+
+    private final int n;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+    private final Random random;
+
+    /**
+     * Cria um gerador para o intervalo [0, n) com o expoente padrão.
+     *
+     * @param n O tamanho do intervalo
+     * @param random A fonte de números aleatórios
+     */
+    public Zipf(int n, Random random) {
+        this(n, THETA, random);
+    }
+
+    /**
+     * Cria um gerador para o intervalo [0, n).
+     *
+     * @param n O tamanho do intervalo
+     * @param theta O expoente da distribuição (entre 0 e 1, exclusive)
+     * @param random A fonte de números aleatórios
+     */
+    public Zipf(int n, double theta, Random random) {
+        this.n = n;
+        this.theta = theta;
+        this.random = random;
+        this.zetaN = zeta(n, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / n, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+    }
+
+    private static double zeta(int n, double theta) {
+        double soma = 0;
+        for (int i = 1; i <= n; i++) {
+            soma += 1 / Math.pow(i, theta);
+        }
+        return soma;
+    }
+
+    /**
+     * Retorna o próximo valor da distribuição.
+     *
+     * @return Um valor em [0, n)
+     */
+    public int proximo() {
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return 1;
+        }
+        int valor = (int) (n * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(valor, n - 1);
+    }
+}
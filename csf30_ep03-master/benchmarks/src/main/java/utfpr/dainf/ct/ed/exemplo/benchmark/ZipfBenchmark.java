@@ -0,0 +1,68 @@
+package utfpr.dainf.ct.ed.exemplo.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Tempo médio de uma pesquisa com consultas concentradas em poucas chaves. A
+ * estrutura contém todas as chaves 0, 1, ..., n-1, e as consultas seguem a
+ * distribuição de Zipf sobre uma permutação aleatória dessas chaves, de modo
+ * que as chaves mais consultadas ficam espalhadas pelo intervalo. Compara
+ * também as árvores splay, que não fazem parte dos parâmetros de
+ * {@link PesquisaBenchmark} com a distribuição ZIPF.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZipfBenchmark {
+
+    private static final int CONSULTAS = 1 << 20;
+
+    @Param({"100000", "1000000"})
+    public int n;
+
+    @Param({"AVL", "SPLAY", "SEMI_SPLAY", "TREEMAP"})
+    public Estrutura estrutura;
+
+    private Adaptador adaptador;
+    private int[] consultas;
+    private int i;
+
+    @Setup(Level.Trial)
+    public void constroi() {
+        Random random = new Random(Cenario.SEMENTE);
+        adaptador = estrutura.cria();
+        for (int chave : Distribuicao.ALEATORIA.gera(n, random)) {
+            adaptador.insere(chave);
+        }
+        int[] permutacao = Distribuicao.ALEATORIA.gera(n, random);
+        Zipf zipf = new Zipf(n, random);
+        consultas = new int[CONSULTAS];
+        for (int j = 0; j < CONSULTAS; j++) {
+            consultas[j] = permutacao[zipf.proximo()];
+        }
+    }
+
+    @Benchmark
+    public Object pesquisa() {
+        return adaptador.pesquisa(consultas[i++ & (CONSULTAS - 1)]);
+    }
+}
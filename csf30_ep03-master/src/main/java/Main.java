@@ -4,6 +4,8 @@ import java.util.Comparator;
 import utfpr.dainf.ct.ed.exemplo.ArvoreAVL;
 import utfpr.dainf.ct.ed.exemplo.ArvoreBinaria;
 import utfpr.dainf.ct.ed.exemplo.ArvoreBinariaPesquisa;
+import utfpr.dainf.ct.ed.exemplo.ArvoreSplay;
+import utfpr.dainf.ct.ed.exemplo.Percurso;
 
 /**
  * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
@@ -40,8 +42,9 @@ public class Main {
         System.out.println("\nPERCURSO RECURSIVO");
         a.visitaEmOrdem();
         System.out.println("\nPERCURSO ITERATIVO");
+        Percurso<Integer> percurso = a.percursoEmOrdem();
         ArvoreBinaria<Integer> no;
-        while ((no = a.proximoEmOrdem()) != null) {
+        while ((no = percurso.proximo()) != null) {
             System.out.print(" " + no.getValor());
         }
         System.out.println();
@@ -94,5 +97,14 @@ public class Main {
                  a.imprimePreOrdem(a, 1);
             }
         }
+
+        System.out.println("\nINSERÇÃO EM ORDEM NA ÁRVORE SPLAY");
+        ArvoreSplay<Integer> splay = new ArvoreSplay<>(1);
+        for (int i = 2; i <= 100000; i++) {
+            splay = splay.insere(i); // a árvore degenera em lista
+        }
+        splay = splay.insere(0); // desce 100000 níveis
+        System.out.format("Tamanho: %d, altura: %d, raiz: %d\n",
+                splay.getTamanho(), splay.getAltura(), splay.getValor());
     }
 }
@@ -1,6 +1,10 @@
 package utfpr.dainf.ct.ed.exemplo;
 
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
@@ -13,6 +17,14 @@ import java.util.Stack;
  */
 public class ArvoreAVL<E extends Comparable<E>> extends ArvoreBinariaPesquisa<E> {
 
+    /**
+     * Custo de religar um nó na reconstrução, em relação ao de um passo de
+     * descida numa operação individual. Medido com árvores de 10^5 a 10^6
+     * nós: a varredura completa perde a localidade que as inserções
+     * ordenadas a partir do nó anterior aproveitam.
+     */
+    private static final int FATOR_RECONSTRUCAO = 2;
+
     protected byte fb;
     /**
      * Cria uma árvore AVL com o valor da raiz nulo
@@ -29,6 +41,111 @@ public class ArvoreAVL<E extends Comparable<E>> extends ArvoreBinariaPesquisa<E>
         super(valor);
     }
 
+    /**
+     * Constrói uma árvore AVL com os valores do vetor, que devem estar em
+     * ordem crescente. A árvore é montada de baixo para cima em O(n), sem
+     * rotações: cada nó recebe o elemento central do seu intervalo, o que
+     * resulta em altura mínima.
+     *
+     * @param <T> O tipo dos valores
+     * @param valores Os valores em ordem crescente
+     * @return A raiz da árvore ou {@code null} se não houver valores
+     * @throws IllegalArgumentException se os valores não estiverem ordenados
+     */
+    public static <T extends Comparable<T>> ArvoreAVL<T> constroiOrdenada(T[] valores) {
+        return constroiOrdenada((Object[]) valores, valores.length);
+    }
+
+    /**
+     * Constrói uma árvore AVL com os valores da lista, que devem estar em
+     * ordem crescente, da mesma forma que {@link #constroiOrdenada(Comparable[])}.
+     *
+     * @param <T> O tipo dos valores
+     * @param valores Os valores em ordem crescente
+     * @return A raiz da árvore ou {@code null} se não houver valores
+     * @throws IllegalArgumentException se os valores não estiverem ordenados
+     */
+    public static <T extends Comparable<T>> ArvoreAVL<T> constroiOrdenada(List<T> valores) {
+        return constroiOrdenada(valores.toArray(), valores.size());
+    }
+
+    /**
+     * Constrói uma árvore AVL com os valores do iterador, que devem estar em
+     * ordem crescente, da mesma forma que {@link #constroiOrdenada(Comparable[])}.
+     *
+     * @param <T> O tipo dos valores
+     * @param valores Os valores em ordem crescente
+     * @return A raiz da árvore ou {@code null} se não houver valores
+     * @throws IllegalArgumentException se os valores não estiverem ordenados
+     */
+    public static <T extends Comparable<T>> ArvoreAVL<T> constroiOrdenada(Iterator<T> valores) {
+        List<T> lista = new ArrayList<>();
+        valores.forEachRemaining(lista::add);
+        return constroiOrdenada(lista);
+    }
+
+    /**
+     * Constrói uma árvore AVL com os valores da coleção em qualquer ordem. Os
+     * valores são ordenados antes da construção, em O(n log n).
+     *
+     * @param <T> O tipo dos valores
+     * @param valores Os valores
+     * @return A raiz da árvore ou {@code null} se não houver valores
+     */
+    public static <T extends Comparable<T>> ArvoreAVL<T> constroi(Collection<? extends T> valores) {
+        Object[] ordenados = valores.toArray();
+        Arrays.sort(ordenados);
+        return constroi(ordenados, 0, ordenados.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> ArvoreAVL<T> constroiOrdenada(Object[] valores, int n) {
+        for (int i = 1; i < n; i++) {
+            if (((T) valores[i - 1]).compareTo((T) valores[i]) > 0) {
+                throw new IllegalArgumentException("Valores fora de ordem na posição " + i);
+            }
+        }
+        return constroi(valores, 0, n);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> ArvoreAVL<T> constroi(Object[] valores, int inicio, int fim) {
+        ArvoreAVL<T>[] nos = (ArvoreAVL<T>[]) new ArvoreAVL<?>[fim - inicio];
+        for (int i = inicio; i < fim; i++) {
+            nos[i - inicio] = new ArvoreAVL<>((T) valores[i]);
+        }
+        return religa(nos, 0, nos.length);
+    }
+
+    /**
+     * Liga os nós das posições [inicio, fim) do vetor, que estão em ordem,
+     * numa subárvore de altura mínima e ajusta altura, tamanho, fator de
+     * balanço e pais. Os nós podem ter pertencido a outra árvore: todos os
+     * seus vínculos são refeitos.
+     */
+    private static <T extends Comparable<T>> ArvoreAVL<T> religa(ArvoreAVL<T>[] nos, int inicio, int fim) {
+        if (inicio >= fim) {
+            return null;
+        }
+        int meio = (inicio + fim) >>> 1;
+        ArvoreAVL<T> no = nos[meio];
+        ArvoreAVL<T> esquerda = religa(nos, inicio, meio);
+        ArvoreAVL<T> direita = religa(nos, meio + 1, fim);
+        no.pai = null;
+        no.esquerda = esquerda;
+        no.direita = direita;
+        if (esquerda != null) {
+            esquerda.pai = no;
+        }
+        if (direita != null) {
+            direita.pai = no;
+        }
+        no.fb = (byte) (calculaAltura(direita) - calculaAltura(esquerda));
+        no.atualizaAltura();
+        no.atualizaTamanho();
+        return no;
+    }
+
     /**
      * Retorna o fator de balanço deste nó.
      *
@@ -54,27 +171,27 @@ public class ArvoreAVL<E extends Comparable<E>> extends ArvoreBinariaPesquisa<E>
      * @return O nó que ocupou o lugar de x
      */
     protected ArvoreAVL<E> rotacaoEsquerda(ArvoreAVL<E> x) {
-        ArvoreAVL<E> raiz = (ArvoreAVL<E>) getRoot();
         ArvoreAVL<E> y = (ArvoreAVL) x.direita;
+        ArvoreAVL<E> pai = (ArvoreAVL<E>) x.pai;
 
         x.setDireita(y.esquerda);
-        y.setPai(x.pai);
-
-        if (x.pai == null) {
-            raiz = y;
-        } else {
-            if (x == x.pai.esquerda) {
-                x.pai.setEsquerda(y);
-            } else {
-                x.pai.setDireita(y);
-            }
+        if (y.esquerda != null) {
+            ((ArvoreAVL<E>) y.esquerda).setPai(x);
         }
 
         y.setEsquerda(x);
-
+        y.setPai(pai);
         x.setPai(y);
 
-        return raiz;
+        if (pai != null) {
+            if (x == pai.esquerda) {
+                pai.setEsquerda(y);
+            } else {
+                pai.setDireita(y);
+            }
+        }
+
+        return y;
     }
 
     /**
@@ -84,189 +201,432 @@ public class ArvoreAVL<E extends Comparable<E>> extends ArvoreBinariaPesquisa<E>
      * @return O nó que ocupou o lugar de y
      */
     protected ArvoreAVL<E> rotacaoDireita(ArvoreAVL<E> y) {
-        ArvoreAVL<E> root = (ArvoreAVL<E>) getRoot();
         ArvoreAVL<E> x = (ArvoreAVL) y.esquerda;
+        ArvoreAVL<E> pai = (ArvoreAVL<E>) y.pai;
 
         y.setEsquerda(x.direita);
-        x.setPai(y.pai);
-
-        if (y.pai == null) {
-            root = x;
-        } else {
-            if (y == y.pai.esquerda) {
-                y.pai.setEsquerda(x);
-            } else {
-                y.pai.setDireita(x);
-            }
+        if (x.direita != null) {
+            ((ArvoreAVL<E>) x.direita).setPai(y);
         }
 
         x.setDireita(y);
-
+        x.setPai(pai);
         y.setPai(x);
 
-        return root;
-    }
-
-    protected ArvoreAVL<E> rotacao(ArvoreAVL<E> p, ArvoreAVL<E> q) {
-        ArvoreAVL<E> root = (ArvoreAVL<E>) getRoot();
-        ArvoreAVL<E> u = q;
-
-        while (u.pai != p && u.pai != null) {
-            u = (ArvoreAVL) u.pai;
+        if (pai != null) {
+            if (y == pai.esquerda) {
+                pai.setEsquerda(x);
+            } else {
+                pai.setDireita(x);
+            }
         }
 
+        return x;
+    }
+
+    /**
+     * Reequilibra o nó desregulado {@code p} (fator de balanço igual a -2 ou
+     * 2) aplicando a rotação simples ou dupla adequada. Os fatores de balanço
+     * dos nós envolvidos são corrigidos localmente, sem recalcular alturas.
+     *
+     * @param p O nó desregulado
+     * @return O nó que ocupou o lugar de p
+     */
+    protected ArvoreAVL<E> balanceia(ArvoreAVL<E> p) {
+        ArvoreAVL<E> q;
         if (p.fb < 0) {
-            if (u.fb < 0) {
-                root = root.rotacaoDireita(p);
-            } else {
-                root = root.rotacaoEsquerda((ArvoreAVL) p.esquerda);
-                root = root.rotacaoDireita(p);
+            q = (ArvoreAVL<E>) p.esquerda;
+            if (q.fb <= 0) {
+                rotacaoDireita(p);
+                if (q.fb == 0) {
+                    p.fb = -1;
+                    q.fb = 1;
+                } else {
+                    p.fb = 0;
+                    q.fb = 0;
+                }
+                return q;
             }
+            ArvoreAVL<E> r = (ArvoreAVL<E>) q.direita;
+            rotacaoEsquerda(q);
+            rotacaoDireita(p);
+            ajustaFbRotacaoDupla(q, r, p);
+            return r;
         } else {
-            if (u.fb > 0) {
-                root = root.rotacaoEsquerda(p);
-            } else {
-                root = root.rotacaoDireita((ArvoreAVL) p.direita);
-                root = root.rotacaoEsquerda(p);
+            q = (ArvoreAVL<E>) p.direita;
+            if (q.fb >= 0) {
+                rotacaoEsquerda(p);
+                if (q.fb == 0) {
+                    p.fb = 1;
+                    q.fb = -1;
+                } else {
+                    p.fb = 0;
+                    q.fb = 0;
+                }
+                return q;
             }
+            ArvoreAVL<E> r = (ArvoreAVL<E>) q.esquerda;
+            rotacaoDireita(q);
+            rotacaoEsquerda(p);
+            ajustaFbRotacaoDupla(p, r, q);
+            return r;
         }
+    }
 
-        return root;
+    /**
+     * Corrige os fatores de balanço após uma rotação dupla, em que {@code r}
+     * passa a ter {@code esq} como filho esquerdo e {@code dir} como filho
+     * direito.
+     */
+    private void ajustaFbRotacaoDupla(ArvoreAVL<E> esq, ArvoreAVL<E> r, ArvoreAVL<E> dir) {
+        esq.fb = (byte) (r.fb > 0 ? -1 : 0);
+        dir.fb = (byte) (r.fb < 0 ? 1 : 0);
+        r.fb = 0;
     }
 
-    
+    /**
+     * Atualiza os fatores de balanço no caminho entre o nó inserido e a raiz,
+     * parando no primeiro ancestral cuja altura não se altera. Se algum
+     * ancestral ficar desregulado, aplica a rotação correspondente, o que
+     * restaura a altura original da subárvore e encerra o ajuste.
+     *
+     * @param node O nó recém-inserido
+     * @return Esta árvore
+     */
     protected ArvoreAVL<E> ajustaFbInsercao(ArvoreAVL<E> node) {
-        ArvoreAVL<E> comp = node;
+        ArvoreAVL<E> filho = node;
+        ArvoreAVL<E> comp = (ArvoreAVL<E>) node.pai;
         while (comp != null) {
-            int a = calculaAltura(comp.esquerda);
-            int b = calculaAltura(comp.direita);
-            comp.setFb((byte) (b - a));
-            comp = (ArvoreAVL) comp.pai;
+            if (filho == comp.esquerda) {
+                comp.fb--;
+            } else {
+                comp.fb++;
+            }
+            if (comp.fb == 0) {
+                break;
+            }
+            if (comp.fb < -1 || comp.fb > 1) {
+                balanceia(comp);
+                break;
+            }
+            comp.atualizaAltura();
+            filho = comp;
+            comp = (ArvoreAVL<E>) comp.pai;
         }
 
         return this;
     }
 
-    protected ArvoreAVL<E> ajustaFbExclusao(ArvoreAVL<E> no) {
-        ArvoreAVL<E> comp = (ArvoreAVL<E>) getMinimo();
-
+    /**
+     * Atualiza os fatores de balanço no caminho entre o pai do nó removido e
+     * a raiz. Cada ancestral desregulado é rotacionado; o ajuste termina
+     * assim que a altura de uma subárvore deixa de diminuir.
+     *
+     * @param comp O pai do nó removido
+     * @param esquerda Indica se o nó removido era o filho esquerdo de comp
+     * @return Esta árvore
+     */
+    protected ArvoreAVL<E> ajustaFbExclusao(ArvoreAVL<E> comp, boolean esquerda) {
         while (comp != null) {
-            comp.fb = (byte) (calculaAltura(comp.direita) - calculaAltura(comp.esquerda));
-            comp = (ArvoreAVL<E>) sucessor(comp);
+            if (esquerda) {
+                comp.fb++;
+            } else {
+                comp.fb--;
+            }
+            if (comp.fb == 1 || comp.fb == -1) {
+                break;
+            }
+            if (comp.fb == 0) {
+                comp.atualizaAltura();
+            } else {
+                ArvoreAVL<E> filho = (ArvoreAVL<E>) (comp.fb < 0 ? comp.esquerda : comp.direita);
+                boolean mantemAltura = filho.fb == 0;
+                comp = balanceia(comp);
+                if (mantemAltura) {
+                    break;
+                }
+            }
+            ArvoreAVL<E> pai = (ArvoreAVL<E>) comp.pai;
+            if (pai != null) {
+                esquerda = comp == pai.esquerda;
+            }
+            comp = pai;
         }
 
         return this;
     }
 
+    /**
+     * Reequilibra a árvore após a inserção do nó especificado.
+     *
+     * @param node O nó recém-inserido
+     */
+    @Override
+    protected void ajustaInsercao(ArvoreBinariaPesquisa<E> node) {
+        atualizaTamanhos(node.pai);
+        ajustaFbInsercao((ArvoreAVL<E>) node);
+    }
+
     protected ArvoreAVL<E> insere(ArvoreAVL<E> node) {
         super.insere(node);
 
-        ArvoreAVL<E> comp = node;
-        ajustaFbInsercao(node);
-
-        while (comp != null) {
-            
-            if (Math.abs(comp.fb) > 1) {
-                break;
-            }
-            comp = (ArvoreAVL) comp.pai;
-        }
-        
-        if (comp != null) {
-            rotacao(comp, node);
-            ajustaFbExclusao(node);
-        }
-
         return node;
-        
     }
 
     public ArvoreAVL<E> insere(E valor) {
         return insere(new ArvoreAVL<>(valor));
     }
 
-    public ArvoreAVL<E> exclui(ArvoreAVL<E> node) {
+    /**
+     * Insere todos os valores da coleção. O lote é ordenado e, se for grande
+     * em relação à árvore, intercalado com os nós existentes numa única
+     * reconstrução em O(n + m); caso contrário, cada inserção parte do nó
+     * inserido anteriormente e sobe apenas até o ancestral cuja subárvore
+     * contém o próximo valor, em vez de descer desde a raiz. Nesse caso os
+     * tamanhos dos ancestrais do último nó inserido ficam desatualizados: cada
+     * nó é corrigido quando o percurso sobe acima dele e o caminho até a raiz
+     * é corrigido uma única vez no fim, de modo que cada valor custa apenas a
+     * distância até o anterior, mais as rotações.
+     *
+     * @param valores Os valores a inserir
+     * @return A raiz da árvore após as inserções
+     */
+    @SuppressWarnings("unchecked")
+    public ArvoreAVL<E> insereTodos(Collection<? extends E> valores) {
         ArvoreAVL<E> raiz = (ArvoreAVL<E>) getRoot();
+        if (valores.isEmpty()) {
+            return raiz;
+        }
+        Object[] lote = valores.toArray();
+        Arrays.sort(lote);
+
+        if (isReconstrucaoVantajosa(raiz.tamanho, lote.length)) {
+            return intercala(raiz, lote);
+        }
 
-        node = (ArvoreAVL) raiz.pesquisa(node.valor);
+        ArvoreAVL<E> dedo = raiz;
+        for (Object valor : lote) {
+            ArvoreAVL<E> no = new ArvoreAVL<>((E) valor);
+            insereAbaixo(sobeAte(dedo, no.valor), no);
+            dedo = no;
+        }
+        while (dedo.pai != null) {
+            dedo = (ArvoreAVL<E>) dedo.pai;
+            dedo.atualizaTamanho();
+        }
+        return dedo;
+    }
 
-        if (raiz == node && (raiz.esquerda == null || raiz.direita == null)) {
-            if (raiz.esquerda != null) {
-                ((ArvoreAVL) raiz.esquerda).pai = null;
-                return (ArvoreAVL) raiz.esquerda;
+    /**
+     * Insere o nó na subárvore especificada e reequilibra a árvore, como em
+     * {@link #inserir(ArvoreBinariaPesquisa)}, mas sem atualizar os tamanhos
+     * dos ancestrais do nó, que ficam a cargo de {@link #insereTodos}. Os nós
+     * que deixam de ser ancestrais do nó inserido por causa de uma rotação
+     * têm o tamanho recalculado a partir de filhos que também não são, e por
+     * isso ficam corretos.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> void insereAbaixo(ArvoreAVL<T> subarvore, ArvoreAVL<T> no) {
+        ArvoreAVL<T> pai = subarvore;
+        while (true) {
+            if (no.valor.compareTo(pai.valor) < 0) {
+                if (pai.esquerda == null) {
+                    pai.setEsquerda(no);
+                    break;
+                }
+                pai = (ArvoreAVL<T>) pai.esquerda;
             } else {
-                if (raiz.direita != null) {
-                    ((ArvoreAVL) raiz.direita).pai = null;
+                if (pai.direita == null) {
+                    pai.setDireita(no);
+                    break;
                 }
-                return (ArvoreAVL) raiz.direita;
+                pai = (ArvoreAVL<T>) pai.direita;
             }
         }
+        no.setPai(pai);
+        no.ajustaFbInsercao(no);
+    }
 
-        if (node.esquerda != null && node.direita != null) {
-            ArvoreAVL<E> proximo = node;
-            do {
-                proximo = (ArvoreAVL) sucessor(proximo);
-            } while (proximo.direita == null
-                    || proximo.esquerda == null);
+    /**
+     * Exclui uma ocorrência de cada valor da coleção. O lote é ordenado e, se
+     * for grande em relação à árvore, os nós restantes são religados numa
+     * única reconstrução em O(n + m); caso contrário, os valores são excluídos
+     * um a um, em ordem.
+     *
+     * @param valores Os valores a excluir
+     * @return A raiz da árvore após as exclusões (nulo se a árvore ficar
+     * vazia)
+     */
+    @SuppressWarnings("unchecked")
+    public ArvoreAVL<E> excluiTodos(Collection<? extends E> valores) {
+        ArvoreAVL<E> raiz = (ArvoreAVL<E>) getRoot();
+        if (valores.isEmpty() || raiz.tamanho == 0) {
+            return raiz;
+        }
+        Object[] lote = valores.toArray();
+        Arrays.sort(lote);
 
-            E value = proximo.valor;
-            exclui(proximo);
-            node.valor = value;
+        if (isReconstrucaoVantajosa(raiz.tamanho, lote.length)) {
+            return filtra(raiz, lote);
+        }
 
-        } else {
-            
+        for (Object valor : lote) {
+            raiz = raiz.exclui((E) valor);
+            if (raiz == null) {
+                break;
+            }
+        }
+        return raiz;
+    }
 
-            boolean isFilhoDaEsquerda = (node.pai.esquerda == node);
-            boolean isTemFilhoEsquerda = (node.esquerda != null);
+    /**
+     * Decide se é mais barato reconstruir a árvore, em O(n + m), do que
+     * aplicar as m operações individualmente, em O(m log n).
+     */
+    private static boolean isReconstrucaoVantajosa(int n, int m) {
+        int log = 32 - Integer.numberOfLeadingZeros(n);
+        return (long) m * log >= (long) FATOR_RECONSTRUCAO * n;
+    }
 
-            
-            if (node.esquerda == null && node.direita == null) {
-                if (isFilhoDaEsquerda) {
-                    node.pai.esquerda = null;
-                } else {
-                    node.pai.direita = null;
-                }
+    /**
+     * Sobe a partir do nó especificado até o primeiro ancestral cuja
+     * subárvore contém o valor, supondo que o valor não é menor do que os
+     * valores já presentes na subárvore de partida. O tamanho de cada nó
+     * deixado para trás é corrigido, já que ele pode deixar de ser ancestral
+     * do próximo nó inserido.
+     */
+    private static <T extends Comparable<T>> ArvoreAVL<T> sobeAte(ArvoreAVL<T> no, T valor) {
+        while (no.pai != null) {
+            ArvoreAVL<T> pai = (ArvoreAVL<T>) no.pai;
+            if (pai.esquerda == no && valor.compareTo(pai.valor) < 0) {
+                break;
             }
-            else {
-                if (isFilhoDaEsquerda) {
-                    if (isTemFilhoEsquerda) {
-                        node.pai.esquerda = node.esquerda;
-                        ((ArvoreAVL<E>) node.esquerda).pai = node.pai;
-                    } else {
-                        node.pai.esquerda = node.direita;
-                        ((ArvoreAVL<E>) node.direita).pai = node.pai;
-                    }
-                } else {
-                    if (isTemFilhoEsquerda) {
-                        node.pai.direita = node.esquerda;
-                        ((ArvoreAVL<E>) node.esquerda).pai = node.pai;
-                    } else {
-                        node.pai.direita = node.direita;
-                        ((ArvoreAVL<E>) node.direita).pai = node.pai;
-                    }
-                }
+            no.atualizaTamanho();
+            no = pai;
+        }
+        return no;
+    }
+
+    /**
+     * Retorna os nós da árvore no percurso em-ordem.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> ArvoreAVL<T>[] nosEmOrdem(ArvoreAVL<T> raiz) {
+        ArvoreAVL<T>[] nos = (ArvoreAVL<T>[]) new ArvoreAVL<?>[raiz.tamanho];
+        if (raiz.tamanho > 0) {
+            Percurso<T> percurso = raiz.percursoEmOrdem();
+            for (int i = 0; i < nos.length; i++) {
+                nos[i] = (ArvoreAVL<T>) percurso.proximo();
             }
+        }
+        return nos;
+    }
 
-            node = (ArvoreAVL) node.pai;
-            int h;
-            while (node != null) {
-                h = (calculaAltura(node.direita) - calculaAltura(node.esquerda));
-
-                if (Math.abs(h) > 1) {
-                    if (h < 0) {
-                        raiz = raiz.rotacaoDireita(node);
-                    } else {
-                        raiz = raiz.rotacaoEsquerda(node);
-                    }
-                }
+    /**
+     * Intercala os nós da árvore com novos nós para os valores do lote
+     * ordenado e religa o resultado. Valores iguais são colocados após os já
+     * existentes, como na inserção individual.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> ArvoreAVL<T> intercala(ArvoreAVL<T> raiz, Object[] lote) {
+        ArvoreAVL<T>[] existentes = nosEmOrdem(raiz);
+        ArvoreAVL<T>[] nos = (ArvoreAVL<T>[]) new ArvoreAVL<?>[existentes.length + lote.length];
+        int i = 0, j = 0, k = 0;
+        while (i < existentes.length && j < lote.length) {
+            T valor = (T) lote[j];
+            if (valor.compareTo(existentes[i].valor) < 0) {
+                nos[k++] = new ArvoreAVL<>(valor);
+                j++;
+            } else {
+                nos[k++] = existentes[i++];
+            }
+        }
+        while (i < existentes.length) {
+            nos[k++] = existentes[i++];
+        }
+        while (j < lote.length) {
+            nos[k++] = new ArvoreAVL<>((T) lote[j++]);
+        }
+        return religa(nos, 0, k);
+    }
 
-                node = (ArvoreAVL) node.pai;
+    /**
+     * Descarta um nó da árvore para cada valor do lote ordenado e religa os
+     * nós restantes.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> ArvoreAVL<T> filtra(ArvoreAVL<T> raiz, Object[] lote) {
+        ArvoreAVL<T>[] nos = nosEmOrdem(raiz);
+        int j = 0, k = 0;
+        for (ArvoreAVL<T> no : nos) {
+            while (j < lote.length && ((T) lote[j]).compareTo(no.valor) < 0) {
+                j++;
+            }
+            if (j < lote.length && ((T) lote[j]).compareTo(no.valor) == 0) {
+                j++;
+                descarta(no);
+            } else {
+                nos[k++] = no;
             }
+        }
+        return religa(nos, 0, k);
+    }
 
-            ajustaFbExclusao(node);
+    /**
+     * Exclui o nó com o valor especificado. Se o nó tiver dois filhos,
+     * recebe o valor do seu sucessor, que é então removido em seu lugar.
+     * Apenas o caminho entre o nó removido e a raiz é reequilibrado.
+     *
+     * @param valor O valor a ser excluído
+     * @return A raiz da árvore após a exclusão (nulo se a árvore ficar vazia)
+     */
+    public ArvoreAVL<E> exclui(E valor) {
+        ArvoreAVL<E> raiz = (ArvoreAVL<E>) getRoot();
+
+        ArvoreAVL<E> node = (ArvoreAVL<E>) raiz.pesquisa(valor);
+        if (node == null) {
+            return raiz;
         }
 
-        return raiz;
+        if (node.esquerda != null && node.direita != null) {
+            ArvoreAVL<E> proximo = (ArvoreAVL<E>) ((ArvoreAVL<E>) node.direita).getMinimoRamo();
+            node.valor = proximo.valor;
+            node = proximo;
+        }
+
+        ArvoreAVL<E> filho = (ArvoreAVL<E>) (node.esquerda != null ? node.esquerda : node.direita);
+        ArvoreAVL<E> pai = (ArvoreAVL<E>) node.pai;
+
+        if (filho != null) {
+            filho.pai = pai;
+        }
+        descarta(node);
+
+        if (pai == null) {
+            return filho;
+        }
+
+        boolean isFilhoDaEsquerda = (pai.esquerda == node);
+        if (isFilhoDaEsquerda) {
+            pai.esquerda = filho;
+        } else {
+            pai.direita = filho;
+        }
+
+        atualizaTamanhos(pai);
+        ajustaFbExclusao(pai, isFilhoDaEsquerda);
+
+        return (ArvoreAVL<E>) pai.getRoot();
+    }
+
+    /**
+     * Exclui o nó com o valor do nó especificado.
+     *
+     * @param node O nó cujo valor deve ser excluído
+     * @return A raiz da árvore após a exclusão (nulo se a árvore ficar vazia)
+     */
+    public ArvoreAVL<E> exclui(ArvoreAVL<E> node) {
+        return exclui(node.valor);
     }
 
 }
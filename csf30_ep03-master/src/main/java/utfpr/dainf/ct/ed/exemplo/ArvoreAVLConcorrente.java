@@ -0,0 +1,219 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.Collection;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Árvore AVL que pode ser compartilhada entre threads. Todas as operações
+ * passam por um {@link StampedLock}: as alterações usam o bloqueio de escrita
+ * e as pesquisas tentam primeiro uma leitura otimista, sem bloqueio, que só é
+ * aceita se nenhuma escrita tiver ocorrido durante a descida; caso contrário,
+ * a pesquisa é repetida com o bloqueio de leitura.
+ *
+ * <p>
+ * Os nós da árvore nunca são expostos, de modo que os percursos com estado
+ * compartilhado de {@link ArvoreBinaria} não podem ser usados por fora do
+ * bloqueio.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+public class ArvoreAVLConcorrente<E extends Comparable<E>> {
+
+    /**
+     * Número máximo de níveis percorridos numa leitura otimista. A altura de
+     * uma árvore AVL com até {@link Integer#MAX_VALUE} nós é menor do que
+     * isso; uma descida mais longa só ocorre se uma rotação concorrente
+     * tiver formado um ciclo momentâneo, e nesse caso a leitura é refeita com
+     * bloqueio.
+     */
+    private static final int LIMITE_NIVEIS = 64;
+
+    private final StampedLock bloqueio = new StampedLock();
+    private ArvoreAVL<E> raiz;
+
+    /**
+     * Cria uma árvore concorrente vazia.
+     */
+    public ArvoreAVLConcorrente() {
+    }
+
+    /**
+     * Cria uma árvore concorrente com os valores da coleção.
+     *
+     * @param valores Os valores iniciais
+     */
+    public ArvoreAVLConcorrente(Collection<? extends E> valores) {
+        raiz = ArvoreAVL.constroi(valores);
+    }
+
+    /**
+     * Pesquisa o valor especificado.
+     *
+     * @param valor O valor pesquisado
+     * @return O valor armazenado na árvore igual ao pesquisado ou
+     * {@code null} se não existir
+     */
+    public E pesquisa(E valor) {
+        long carimbo = bloqueio.tryOptimisticRead();
+        if (carimbo != 0) {
+            ArvoreAVL<E> no = raiz;
+            E encontrado = null;
+            boolean completa = false;
+            for (int nivel = 0; nivel < LIMITE_NIVEIS; nivel++) {
+                if (no == null) {
+                    completa = true;
+                    break;
+                }
+                E atual = no.valor;
+                if (atual == null) {
+                    break;
+                }
+                int comparacao = valor.compareTo(atual);
+                if (comparacao == 0) {
+                    encontrado = atual;
+                    completa = true;
+                    break;
+                }
+                no = (ArvoreAVL<E>) (comparacao < 0 ? no.esquerda : no.direita);
+            }
+            if (completa && bloqueio.validate(carimbo)) {
+                return encontrado;
+            }
+        }
+
+        carimbo = bloqueio.readLock();
+        try {
+            ArvoreBinariaPesquisa<E> no = raiz == null ? null : raiz.pesquisa(valor);
+            return no == null ? null : no.valor;
+        } finally {
+            bloqueio.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Verifica se o valor especificado está na árvore.
+     *
+     * @param valor O valor pesquisado
+     * @return {@code true} se o valor estiver na árvore
+     */
+    public boolean contem(E valor) {
+        return pesquisa(valor) != null;
+    }
+
+    /**
+     * Insere o valor especificado.
+     *
+     * @param valor O valor a inserir
+     */
+    public void insere(E valor) {
+        long carimbo = bloqueio.writeLock();
+        try {
+            if (raiz == null) {
+                raiz = new ArvoreAVL<>(valor);
+            } else {
+                raiz.insere(valor);
+                raiz = (ArvoreAVL<E>) raiz.getRoot();
+            }
+        } finally {
+            bloqueio.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Exclui uma ocorrência do valor especificado.
+     *
+     * @param valor O valor a excluir
+     * @return {@code true} se o valor estava na árvore
+     */
+    public boolean exclui(E valor) {
+        long carimbo = bloqueio.writeLock();
+        try {
+            if (raiz == null) {
+                return false;
+            }
+            int tamanho = raiz.getTamanho();
+            raiz = raiz.exclui(valor);
+            return raiz == null || raiz.getTamanho() != tamanho;
+        } finally {
+            bloqueio.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Insere todos os valores da coleção com um único bloqueio de escrita.
+     *
+     * @param valores Os valores a inserir
+     * @see ArvoreAVL#insereTodos(Collection)
+     */
+    public void insereTodos(Collection<? extends E> valores) {
+        long carimbo = bloqueio.writeLock();
+        try {
+            raiz = raiz == null ? ArvoreAVL.constroi(valores) : raiz.insereTodos(valores);
+        } finally {
+            bloqueio.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Exclui uma ocorrência de cada valor da coleção com um único bloqueio de
+     * escrita.
+     *
+     * @param valores Os valores a excluir
+     * @see ArvoreAVL#excluiTodos(Collection)
+     */
+    public void excluiTodos(Collection<? extends E> valores) {
+        long carimbo = bloqueio.writeLock();
+        try {
+            if (raiz != null) {
+                raiz = raiz.excluiTodos(valores);
+            }
+        } finally {
+            bloqueio.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Retorna o número de valores da árvore.
+     *
+     * @return O número de valores
+     */
+    public int getTamanho() {
+        long carimbo = bloqueio.tryOptimisticRead();
+        ArvoreAVL<E> r = raiz;
+        int tamanho = r == null ? 0 : r.tamanho;
+        if (!bloqueio.validate(carimbo)) {
+            carimbo = bloqueio.readLock();
+            try {
+                tamanho = raiz == null ? 0 : raiz.tamanho;
+            } finally {
+                bloqueio.unlockRead(carimbo);
+            }
+        }
+        return tamanho;
+    }
+
+    /**
+     * Executa a ação para cada valor, em ordem crescente, com o bloqueio de
+     * leitura. Outras leituras podem ocorrer ao mesmo tempo, mas as escritas
+     * aguardam o fim do percurso.
+     *
+     * @param acao A ação a executar
+     */
+    public void paraCada(Consumer<? super E> acao) {
+        long carimbo = bloqueio.readLock();
+        try {
+            if (raiz != null) {
+                Percurso<E> percurso = raiz.percursoEmOrdem();
+                for (ArvoreBinaria<E> no = percurso.proximo(); no != null; no = percurso.proximo()) {
+                    acao.accept(no.valor);
+                }
+            }
+        } finally {
+            bloqueio.unlockRead(carimbo);
+        }
+    }
+}
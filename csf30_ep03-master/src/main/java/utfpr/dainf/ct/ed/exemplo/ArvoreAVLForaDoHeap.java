@@ -0,0 +1,470 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Árvore AVL de chaves {@code long} armazenada fora do heap. Os nós não são
+ * objetos Java: cada nó ocupa uma posição de tamanho fixo numa arena de
+ * {@link ByteBuffer}s diretos e é identificado pelo índice dessa posição. As
+ * posições liberadas pela exclusão formam uma lista encadeada e são
+ * reaproveitadas pelas inserções seguintes, de modo que a memória ocupada
+ * depende apenas do maior número de chaves já armazenado e o coletor de lixo
+ * vê apenas os poucos blocos da arena.
+ *
+ * <p>
+ * O balanceamento é o mesmo de {@link ArvoreAVL}: fator de balanço por nó,
+ * referência para o pai, rotações simples e duplas e ajuste apenas no caminho
+ * entre o nó alterado e a raiz. Como em {@link ArvoreAVL}, chaves iguais são
+ * aceitas e ficam à direita das já existentes.
+ *
+ * <p>
+ * Esta classe não é segura para uso concorrente.
+ */
+public class ArvoreAVLForaDoHeap {
+
+    /**
+     * Índice que representa a ausência de nó.
+     */
+    private static final int NULO = -1;
+
+    private static final int CHAVE = 0;
+    private static final int ESQUERDA = 8;
+    private static final int DIREITA = 12;
+    private static final int PAI = 16;
+    private static final int FB = 20;
+
+    /**
+     * Bytes ocupados por um nó: chave, filhos, pai e fator de balanço,
+     * alinhados em 8 bytes.
+     */
+    public static final int BYTES_POR_NO = 24;
+
+    private static final int BITS_POR_BLOCO = 16;
+    private static final int NOS_POR_BLOCO = 1 << BITS_POR_BLOCO;
+    private static final int MASCARA_BLOCO = NOS_POR_BLOCO - 1;
+
+    private final List<ByteBuffer> blocos = new ArrayList<>();
+    private int raiz = NULO;
+    private int livre = NULO;
+    private int proximo;
+    private long tamanho;
+
+    /**
+     * Cria uma árvore vazia. Os blocos da arena são alocados à medida que a
+     * árvore cresce.
+     */
+    public ArvoreAVLForaDoHeap() {
+    }
+
+    private ByteBuffer bloco(int no) {
+        return blocos.get(no >>> BITS_POR_BLOCO);
+    }
+
+    private static int deslocamento(int no, int campo) {
+        return (no & MASCARA_BLOCO) * BYTES_POR_NO + campo;
+    }
+
+    private long chave(int no) {
+        return bloco(no).getLong(deslocamento(no, CHAVE));
+    }
+
+    private int esquerda(int no) {
+        return bloco(no).getInt(deslocamento(no, ESQUERDA));
+    }
+
+    private int direita(int no) {
+        return bloco(no).getInt(deslocamento(no, DIREITA));
+    }
+
+    private int pai(int no) {
+        return bloco(no).getInt(deslocamento(no, PAI));
+    }
+
+    private byte fb(int no) {
+        return bloco(no).get(deslocamento(no, FB));
+    }
+
+    private void setChave(int no, long chave) {
+        bloco(no).putLong(deslocamento(no, CHAVE), chave);
+    }
+
+    private void setEsquerda(int no, int filho) {
+        bloco(no).putInt(deslocamento(no, ESQUERDA), filho);
+    }
+
+    private void setDireita(int no, int filho) {
+        bloco(no).putInt(deslocamento(no, DIREITA), filho);
+    }
+
+    private void setPai(int no, int pai) {
+        if (no != NULO) {
+            bloco(no).putInt(deslocamento(no, PAI), pai);
+        }
+    }
+
+    private void setFb(int no, int fb) {
+        bloco(no).put(deslocamento(no, FB), (byte) fb);
+    }
+
+    /**
+     * Obtém uma posição livre, reaproveitando as liberadas antes de avançar
+     * sobre a arena. Na lista de posições livres o campo esquerda aponta para
+     * a próxima.
+     */
+    private int aloca(long chave, int pai) {
+        int no;
+        if (livre != NULO) {
+            no = livre;
+            livre = esquerda(no);
+        } else {
+            if (proximo == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Arena esgotada");
+            }
+            no = proximo++;
+            if ((no >>> BITS_POR_BLOCO) == blocos.size()) {
+                blocos.add(ByteBuffer.allocateDirect(NOS_POR_BLOCO * BYTES_POR_NO).order(ByteOrder.nativeOrder()));
+            }
+        }
+        setChave(no, chave);
+        setEsquerda(no, NULO);
+        setDireita(no, NULO);
+        setPai(no, pai);
+        setFb(no, 0);
+        return no;
+    }
+
+    private void libera(int no) {
+        setEsquerda(no, livre);
+        livre = no;
+    }
+
+    /**
+     * Retorna o número de chaves da árvore.
+     *
+     * @return O número de chaves
+     */
+    public long getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna o número de bytes alocados fora do heap pela arena, incluindo
+     * as posições livres.
+     *
+     * @return Os bytes alocados
+     */
+    public long getBytesAlocados() {
+        return (long) blocos.size() * NOS_POR_BLOCO * BYTES_POR_NO;
+    }
+
+    /**
+     * Verifica se a chave especificada está na árvore.
+     *
+     * @param chave A chave pesquisada
+     * @return {@code true} se a chave estiver na árvore
+     */
+    public boolean contem(long chave) {
+        return pesquisa(chave) != NULO;
+    }
+
+    private int pesquisa(long chave) {
+        int no = raiz;
+        while (no != NULO) {
+            long atual = chave(no);
+            if (chave == atual) {
+                return no;
+            }
+            no = chave < atual ? esquerda(no) : direita(no);
+        }
+        return NULO;
+    }
+
+    /**
+     * Retorna a menor chave da árvore.
+     *
+     * @return A menor chave
+     * @throws NoSuchElementException se a árvore estiver vazia
+     */
+    public long getMinimo() {
+        if (raiz == NULO) {
+            throw new NoSuchElementException();
+        }
+        return chave(minimo(raiz));
+    }
+
+    /**
+     * Retorna a maior chave da árvore.
+     *
+     * @return A maior chave
+     * @throws NoSuchElementException se a árvore estiver vazia
+     */
+    public long getMaximo() {
+        if (raiz == NULO) {
+            throw new NoSuchElementException();
+        }
+        int no = raiz;
+        while (direita(no) != NULO) {
+            no = direita(no);
+        }
+        return chave(no);
+    }
+
+    private int minimo(int no) {
+        while (esquerda(no) != NULO) {
+            no = esquerda(no);
+        }
+        return no;
+    }
+
+    /**
+     * Executa a ação para cada chave, em ordem crescente. O percurso segue as
+     * referências para o pai e não aloca memória.
+     *
+     * @param acao A ação a executar
+     */
+    public void paraCada(LongConsumer acao) {
+        if (raiz == NULO) {
+            return;
+        }
+        int no = minimo(raiz);
+        while (no != NULO) {
+            acao.accept(chave(no));
+            if (direita(no) != NULO) {
+                no = minimo(direita(no));
+            } else {
+                int pai = pai(no);
+                while (pai != NULO && direita(pai) == no) {
+                    no = pai;
+                    pai = pai(no);
+                }
+                no = pai;
+            }
+        }
+    }
+
+    /**
+     * Insere a chave especificada.
+     *
+     * @param chave A chave a inserir
+     */
+    public void insere(long chave) {
+        tamanho++;
+        if (raiz == NULO) {
+            raiz = aloca(chave, NULO);
+            return;
+        }
+        int pai = raiz;
+        while (true) {
+            if (chave < chave(pai)) {
+                int filho = esquerda(pai);
+                if (filho == NULO) {
+                    filho = aloca(chave, pai);
+                    setEsquerda(pai, filho);
+                    ajustaFbInsercao(filho);
+                    return;
+                }
+                pai = filho;
+            } else {
+                int filho = direita(pai);
+                if (filho == NULO) {
+                    filho = aloca(chave, pai);
+                    setDireita(pai, filho);
+                    ajustaFbInsercao(filho);
+                    return;
+                }
+                pai = filho;
+            }
+        }
+    }
+
+    /**
+     * Exclui uma ocorrência da chave especificada. Se o nó tiver dois filhos,
+     * recebe a chave do seu sucessor, cuja posição é então liberada.
+     *
+     * @param chave A chave a excluir
+     * @return {@code true} se a chave estava na árvore
+     */
+    public boolean exclui(long chave) {
+        int no = pesquisa(chave);
+        if (no == NULO) {
+            return false;
+        }
+        tamanho--;
+
+        if (esquerda(no) != NULO && direita(no) != NULO) {
+            int sucessor = minimo(direita(no));
+            setChave(no, chave(sucessor));
+            no = sucessor;
+        }
+
+        int filho = esquerda(no) != NULO ? esquerda(no) : direita(no);
+        int pai = pai(no);
+        setPai(filho, pai);
+        libera(no);
+
+        if (pai == NULO) {
+            raiz = filho;
+            return true;
+        }
+
+        boolean isFilhoDaEsquerda = esquerda(pai) == no;
+        if (isFilhoDaEsquerda) {
+            setEsquerda(pai, filho);
+        } else {
+            setDireita(pai, filho);
+        }
+        ajustaFbExclusao(pai, isFilhoDaEsquerda);
+        return true;
+    }
+
+    /**
+     * Remove todas as chaves. Os blocos da arena são mantidos para as
+     * próximas inserções.
+     */
+    public void limpa() {
+        raiz = NULO;
+        livre = NULO;
+        proximo = 0;
+        tamanho = 0;
+    }
+
+    /**
+     * Substitui {@code antigo} por {@code novo} como filho de {@code pai}, ou
+     * como raiz se {@code pai} for nulo.
+     */
+    private void trocaFilho(int pai, int antigo, int novo) {
+        setPai(novo, pai);
+        if (pai == NULO) {
+            raiz = novo;
+        } else if (esquerda(pai) == antigo) {
+            setEsquerda(pai, novo);
+        } else {
+            setDireita(pai, novo);
+        }
+    }
+
+    private void rotacaoEsquerda(int x) {
+        int y = direita(x);
+        int pai = pai(x);
+
+        int meio = esquerda(y);
+        setDireita(x, meio);
+        setPai(meio, x);
+
+        setEsquerda(y, x);
+        setPai(x, y);
+        trocaFilho(pai, x, y);
+    }
+
+    private void rotacaoDireita(int y) {
+        int x = esquerda(y);
+        int pai = pai(y);
+
+        int meio = direita(x);
+        setEsquerda(y, meio);
+        setPai(meio, y);
+
+        setDireita(x, y);
+        setPai(y, x);
+        trocaFilho(pai, y, x);
+    }
+
+    /**
+     * Reequilibra o nó desregulado e retorna o nó que ocupou o seu lugar,
+     * como {@link ArvoreAVL#balanceia(ArvoreAVL)}.
+     */
+    private int balanceia(int p) {
+        if (fb(p) < 0) {
+            int q = esquerda(p);
+            if (fb(q) <= 0) {
+                rotacaoDireita(p);
+                if (fb(q) == 0) {
+                    setFb(p, -1);
+                    setFb(q, 1);
+                } else {
+                    setFb(p, 0);
+                    setFb(q, 0);
+                }
+                return q;
+            }
+            int r = direita(q);
+            rotacaoEsquerda(q);
+            rotacaoDireita(p);
+            ajustaFbRotacaoDupla(q, r, p);
+            return r;
+        } else {
+            int q = direita(p);
+            if (fb(q) >= 0) {
+                rotacaoEsquerda(p);
+                if (fb(q) == 0) {
+                    setFb(p, 1);
+                    setFb(q, -1);
+                } else {
+                    setFb(p, 0);
+                    setFb(q, 0);
+                }
+                return q;
+            }
+            int r = esquerda(q);
+            rotacaoDireita(q);
+            rotacaoEsquerda(p);
+            ajustaFbRotacaoDupla(p, r, q);
+            return r;
+        }
+    }
+
+    private void ajustaFbRotacaoDupla(int esq, int r, int dir) {
+        setFb(esq, fb(r) > 0 ? -1 : 0);
+        setFb(dir, fb(r) < 0 ? 1 : 0);
+        setFb(r, 0);
+    }
+
+    private void ajustaFbInsercao(int no) {
+        int filho = no;
+        int comp = pai(no);
+        while (comp != NULO) {
+            int fb = fb(comp) + (filho == esquerda(comp) ? -1 : 1);
+            setFb(comp, fb);
+            if (fb == 0) {
+                break;
+            }
+            if (fb < -1 || fb > 1) {
+                balanceia(comp);
+                break;
+            }
+            filho = comp;
+            comp = pai(comp);
+        }
+    }
+
+    private void ajustaFbExclusao(int comp, boolean esquerda) {
+        while (comp != NULO) {
+            int fb = fb(comp) + (esquerda ? 1 : -1);
+            setFb(comp, fb);
+            if (fb == 1 || fb == -1) {
+                break;
+            }
+            if (fb != 0) {
+                int filho = fb < 0 ? esquerda(comp) : direita(comp);
+                boolean mantemAltura = fb(filho) == 0;
+                comp = balanceia(comp);
+                if (mantemAltura) {
+                    break;
+                }
+            }
+            int pai = pai(comp);
+            if (pai != NULO) {
+                esquerda = comp == esquerda(pai);
+            }
+            comp = pai;
+        }
+    }
+}
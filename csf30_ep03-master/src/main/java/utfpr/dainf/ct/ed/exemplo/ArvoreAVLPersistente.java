@@ -0,0 +1,337 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Árvore AVL persistente (imutável). As operações de alteração não modificam
+ * a árvore: retornam uma nova árvore que compartilha com a anterior todas as
+ * subárvores fora do caminho alterado. Cada inserção ou exclusão aloca
+ * O(log n) nós e uma versão antiga continua válida para sempre, de modo que
+ * guardar a referência para uma árvore é um instantâneo em O(1) que pode ser
+ * lido por qualquer thread sem bloqueio.
+ *
+ * <p>
+ * Os nós não têm referência para o pai, já que um mesmo nó pode pertencer a
+ * várias versões. Como em {@link ArvoreAVL}, valores iguais são aceitos e
+ * ficam à direita dos já existentes.
+ *
+ * <p>
+ * Para compartilhar a versão corrente entre um escritor e vários leitores,
+ * basta publicá-la num campo {@code volatile} ou numa
+ * {@link java.util.concurrent.atomic.AtomicReference}.
+ *
+ * @param <E> O tipo do valor armazenado na árvore
+ */
+public final class ArvoreAVLPersistente<E extends Comparable<E>> implements Iterable<E> {
+
+    private static final class No<E> {
+
+        final E valor;
+        final No<E> esquerda;
+        final No<E> direita;
+        final int altura;
+        final int tamanho;
+
+        No(E valor, No<E> esquerda, No<E> direita) {
+            this.valor = valor;
+            this.esquerda = esquerda;
+            this.direita = direita;
+            this.altura = Math.max(altura(esquerda), altura(direita)) + 1;
+            this.tamanho = tamanho(esquerda) + tamanho(direita) + 1;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final ArvoreAVLPersistente VAZIA = new ArvoreAVLPersistente<>(null);
+
+    private final No<E> raiz;
+
+    private ArvoreAVLPersistente(No<E> raiz) {
+        this.raiz = raiz;
+    }
+
+    /**
+     * Retorna a árvore vazia.
+     *
+     * @param <T> O tipo dos valores
+     * @return A árvore vazia
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> ArvoreAVLPersistente<T> vazia() {
+        return VAZIA;
+    }
+
+    private static int altura(No<?> no) {
+        return no == null ? -1 : no.altura;
+    }
+
+    private static int tamanho(No<?> no) {
+        return no == null ? 0 : no.tamanho;
+    }
+
+    private ArvoreAVLPersistente<E> nova(No<E> novaRaiz) {
+        if (novaRaiz == raiz) {
+            return this;
+        }
+        return novaRaiz == null ? vazia() : new ArvoreAVLPersistente<>(novaRaiz);
+    }
+
+    /**
+     * Retorna o número de valores da árvore.
+     *
+     * @return O número de valores
+     */
+    public int getTamanho() {
+        return tamanho(raiz);
+    }
+
+    /**
+     * Retorna a altura da árvore (-1 se estiver vazia).
+     *
+     * @return A altura da árvore
+     */
+    public int getAltura() {
+        return altura(raiz);
+    }
+
+    /**
+     * Verifica se a árvore está vazia.
+     *
+     * @return {@code true} se a árvore não tiver valores
+     */
+    public boolean isVazia() {
+        return raiz == null;
+    }
+
+    /**
+     * Pesquisa o valor especificado.
+     *
+     * @param valor O valor pesquisado
+     * @return O valor armazenado igual ao pesquisado ou {@code null} se não
+     * existir
+     */
+    public E pesquisa(E valor) {
+        No<E> no = raiz;
+        while (no != null) {
+            int comparacao = valor.compareTo(no.valor);
+            if (comparacao == 0) {
+                return no.valor;
+            }
+            no = comparacao < 0 ? no.esquerda : no.direita;
+        }
+        return null;
+    }
+
+    /**
+     * Verifica se o valor especificado está na árvore.
+     *
+     * @param valor O valor pesquisado
+     * @return {@code true} se o valor estiver na árvore
+     */
+    public boolean contem(E valor) {
+        return pesquisa(valor) != null;
+    }
+
+    /**
+     * Retorna o menor valor da árvore.
+     *
+     * @return O menor valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMinimo() {
+        No<E> no = raiz;
+        if (no == null) {
+            return null;
+        }
+        while (no.esquerda != null) {
+            no = no.esquerda;
+        }
+        return no.valor;
+    }
+
+    /**
+     * Retorna o maior valor da árvore.
+     *
+     * @return O maior valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMaximo() {
+        No<E> no = raiz;
+        if (no == null) {
+            return null;
+        }
+        while (no.direita != null) {
+            no = no.direita;
+        }
+        return no.valor;
+    }
+
+    /**
+     * Retorna o valor que ocupa a posição {@code k} em ordem crescente.
+     *
+     * @param k A posição, a partir de zero
+     * @return O valor na posição ou {@code null} se {@code k} estiver fora
+     * do intervalo
+     */
+    public E seleciona(int k) {
+        No<E> no = raiz;
+        while (no != null) {
+            int esquerda = tamanho(no.esquerda);
+            if (k < esquerda) {
+                no = no.esquerda;
+            } else if (k > esquerda) {
+                k -= esquerda + 1;
+                no = no.direita;
+            } else {
+                return no.valor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retorna uma nova versão da árvore com o valor especificado inserido.
+     * Esta versão não é alterada.
+     *
+     * @param valor O valor a inserir
+     * @return A nova versão da árvore
+     */
+    public ArvoreAVLPersistente<E> insere(E valor) {
+        if (valor == null) {
+            throw new NullPointerException();
+        }
+        return nova(insere(raiz, valor));
+    }
+
+    /**
+     * Retorna uma nova versão da árvore sem uma ocorrência do valor
+     * especificado. Esta versão não é alterada; se o valor não existir, ela
+     * própria é retornada.
+     *
+     * @param valor O valor a excluir
+     * @return A nova versão da árvore
+     */
+    public ArvoreAVLPersistente<E> exclui(E valor) {
+        return nova(exclui(raiz, valor));
+    }
+
+    private static <E extends Comparable<E>> No<E> insere(No<E> no, E valor) {
+        if (no == null) {
+            return new No<>(valor, null, null);
+        }
+        if (valor.compareTo(no.valor) < 0) {
+            return balanceia(no.valor, insere(no.esquerda, valor), no.direita);
+        }
+        return balanceia(no.valor, no.esquerda, insere(no.direita, valor));
+    }
+
+    /**
+     * Retorna a subárvore sem o valor, ou o próprio nó se o valor não
+     * estiver nela, para que nenhum caminho seja copiado à toa.
+     */
+    private static <E extends Comparable<E>> No<E> exclui(No<E> no, E valor) {
+        if (no == null) {
+            return null;
+        }
+        int comparacao = valor.compareTo(no.valor);
+        if (comparacao < 0) {
+            No<E> esquerda = exclui(no.esquerda, valor);
+            return esquerda == no.esquerda ? no : balanceia(no.valor, esquerda, no.direita);
+        }
+        if (comparacao > 0) {
+            No<E> direita = exclui(no.direita, valor);
+            return direita == no.direita ? no : balanceia(no.valor, no.esquerda, direita);
+        }
+        if (no.esquerda == null) {
+            return no.direita;
+        }
+        if (no.direita == null) {
+            return no.esquerda;
+        }
+        No<E> minimo = no.direita;
+        while (minimo.esquerda != null) {
+            minimo = minimo.esquerda;
+        }
+        return balanceia(minimo.valor, no.esquerda, excluiMinimo(no.direita));
+    }
+
+    private static <E extends Comparable<E>> No<E> excluiMinimo(No<E> no) {
+        if (no.esquerda == null) {
+            return no.direita;
+        }
+        return balanceia(no.valor, excluiMinimo(no.esquerda), no.direita);
+    }
+
+    /**
+     * Cria um nó com o valor e as subárvores especificadas, cujas alturas
+     * diferem no máximo em dois, aplicando as rotações necessárias para que
+     * o resultado seja uma árvore AVL.
+     */
+    private static <E extends Comparable<E>> No<E> balanceia(E valor, No<E> esquerda, No<E> direita) {
+        int fb = altura(direita) - altura(esquerda);
+        if (fb > 1) {
+            if (altura(direita.esquerda) > altura(direita.direita)) {
+                No<E> meio = direita.esquerda;
+                return new No<>(meio.valor,
+                        new No<>(valor, esquerda, meio.esquerda),
+                        new No<>(direita.valor, meio.direita, direita.direita));
+            }
+            return new No<>(direita.valor, new No<>(valor, esquerda, direita.esquerda), direita.direita);
+        }
+        if (fb < -1) {
+            if (altura(esquerda.direita) > altura(esquerda.esquerda)) {
+                No<E> meio = esquerda.direita;
+                return new No<>(meio.valor,
+                        new No<>(esquerda.valor, esquerda.esquerda, meio.esquerda),
+                        new No<>(valor, meio.direita, direita));
+            }
+            return new No<>(esquerda.valor, esquerda.esquerda, new No<>(valor, esquerda.direita, direita));
+        }
+        return new No<>(valor, esquerda, direita);
+    }
+
+    /**
+     * Retorna um iterador sobre os valores em ordem crescente. Como a árvore é
+     * imutável, o iterador nunca é afetado por alterações feitas em outras
+     * versões.
+     *
+     * @return O iterador
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            @SuppressWarnings("unchecked")
+            private final No<E>[] pilha = (No<E>[]) new No<?>[altura(raiz) + 1];
+            private int topo;
+
+            {
+                empilhaEsquerda(raiz);
+            }
+
+            private void empilhaEsquerda(No<E> no) {
+                while (no != null) {
+                    pilha[topo++] = no;
+                    no = no.esquerda;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return topo > 0;
+            }
+
+            @Override
+            public E next() {
+                if (topo == 0) {
+                    throw new NoSuchElementException();
+                }
+                No<E> no = pilha[--topo];
+                pilha[topo] = null;
+                empilhaEsquerda(no.direita);
+                return no.valor;
+            }
+        };
+    }
+}
@@ -0,0 +1,492 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Árvore AVL em que os nós são posições em vetores paralelos: o nó {@code i}
+ * tem valor {@code valores[i]}, filhos {@code esquerda[i]} e
+ * {@code direita[i]}, pai {@code pai[i]} e fator de balanço {@code fb[i]}.
+ * Os vínculos ocupam 13 bytes por nó em vetores contíguos, em vez de um
+ * objeto por nó espalhado pelo heap, o que reduz as faltas de cache nas
+ * descidas de árvores maiores do que a cache. As posições liberadas pela
+ * exclusão formam uma lista encadeada e são reaproveitadas.
+ *
+ * <p>
+ * O balanceamento é o mesmo de {@link ArvoreAVL}, incluindo a aceitação de
+ * valores repetidos, que ficam à direita dos já existentes.
+ *
+ * @param <E> O tipo do valor armazenado na árvore
+ */
+public class ArvoreAVLVetorial<E extends Comparable<E>> implements Iterable<E> {
+
+    /**
+     * Índice que representa a ausência de nó.
+     */
+    private static final int NULO = -1;
+
+    private static final int CAPACIDADE_PADRAO = 16;
+
+    private Object[] valores;
+    private int[] esquerda;
+    private int[] direita;
+    private int[] pai;
+    private byte[] fb;
+
+    private int raiz = NULO;
+    private int livre = NULO;
+    private int proximo;
+    private int tamanho;
+
+    /**
+     * Cria uma árvore vazia.
+     */
+    public ArvoreAVLVetorial() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Cria uma árvore vazia com espaço para o número de nós especificado.
+     *
+     * @param capacidade O número de nós inicialmente alocados
+     */
+    public ArvoreAVLVetorial(int capacidade) {
+        capacidade = Math.max(capacidade, 1);
+        valores = new Object[capacidade];
+        esquerda = new int[capacidade];
+        direita = new int[capacidade];
+        pai = new int[capacidade];
+        fb = new byte[capacidade];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E valor(int no) {
+        return (E) valores[no];
+    }
+
+    private int aloca(E valor, int p) {
+        int no;
+        if (livre != NULO) {
+            no = livre;
+            livre = esquerda[no];
+        } else {
+            if (proximo == valores.length) {
+                cresce();
+            }
+            no = proximo++;
+        }
+        valores[no] = valor;
+        esquerda[no] = NULO;
+        direita[no] = NULO;
+        pai[no] = p;
+        fb[no] = 0;
+        return no;
+    }
+
+    private void cresce() {
+        int capacidade = valores.length + (valores.length >> 1) + 1;
+        valores = Arrays.copyOf(valores, capacidade);
+        esquerda = Arrays.copyOf(esquerda, capacidade);
+        direita = Arrays.copyOf(direita, capacidade);
+        pai = Arrays.copyOf(pai, capacidade);
+        fb = Arrays.copyOf(fb, capacidade);
+    }
+
+    /**
+     * Devolve a posição à lista de posições livres, encadeada pelo vetor
+     * esquerda, e solta o valor para o coletor de lixo.
+     */
+    private void libera(int no) {
+        valores[no] = null;
+        esquerda[no] = livre;
+        livre = no;
+    }
+
+    /**
+     * Retorna o número de valores da árvore.
+     *
+     * @return O número de valores
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Pesquisa o valor especificado.
+     *
+     * @param valor O valor pesquisado
+     * @return O valor armazenado igual ao pesquisado ou {@code null} se não
+     * existir
+     */
+    public E pesquisa(E valor) {
+        int no = localiza(valor);
+        return no == NULO ? null : valor(no);
+    }
+
+    /**
+     * Verifica se o valor especificado está na árvore.
+     *
+     * @param valor O valor pesquisado
+     * @return {@code true} se o valor estiver na árvore
+     */
+    public boolean contem(E valor) {
+        return localiza(valor) != NULO;
+    }
+
+    private int localiza(E valor) {
+        int no = raiz;
+        while (no != NULO) {
+            int comparacao = valor.compareTo(valor(no));
+            if (comparacao == 0) {
+                return no;
+            }
+            no = comparacao < 0 ? esquerda[no] : direita[no];
+        }
+        return NULO;
+    }
+
+    /**
+     * Retorna o menor valor da árvore.
+     *
+     * @return O menor valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMinimo() {
+        return raiz == NULO ? null : valor(minimo(raiz));
+    }
+
+    /**
+     * Retorna o maior valor da árvore.
+     *
+     * @return O maior valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMaximo() {
+        if (raiz == NULO) {
+            return null;
+        }
+        int no = raiz;
+        while (direita[no] != NULO) {
+            no = direita[no];
+        }
+        return valor(no);
+    }
+
+    private int minimo(int no) {
+        while (esquerda[no] != NULO) {
+            no = esquerda[no];
+        }
+        return no;
+    }
+
+    private int sucessor(int no) {
+        if (direita[no] != NULO) {
+            return minimo(direita[no]);
+        }
+        int p = pai[no];
+        while (p != NULO && direita[p] == no) {
+            no = p;
+            p = pai[no];
+        }
+        return p;
+    }
+
+    /**
+     * Retorna o menor valor estritamente maior que o valor especificado, que
+     * não precisa estar na árvore.
+     *
+     * @param valor O valor de referência
+     * @return O valor encontrado ou {@code null} se não houver valor maior
+     */
+    public E proximoMaior(E valor) {
+        int no = raiz;
+        int candidato = NULO;
+        while (no != NULO) {
+            if (valor.compareTo(valor(no)) < 0) {
+                candidato = no;
+                no = esquerda[no];
+            } else {
+                no = direita[no];
+            }
+        }
+        return candidato == NULO ? null : valor(candidato);
+    }
+
+    /**
+     * Retorna o maior valor estritamente menor que o valor especificado, que
+     * não precisa estar na árvore.
+     *
+     * @param valor O valor de referência
+     * @return O valor encontrado ou {@code null} se não houver valor menor
+     */
+    public E proximoMenor(E valor) {
+        int no = raiz;
+        int candidato = NULO;
+        while (no != NULO) {
+            if (valor.compareTo(valor(no)) > 0) {
+                candidato = no;
+                no = direita[no];
+            } else {
+                no = esquerda[no];
+            }
+        }
+        return candidato == NULO ? null : valor(candidato);
+    }
+
+    /**
+     * Insere o valor especificado.
+     *
+     * @param valor O valor a inserir
+     */
+    public void insere(E valor) {
+        tamanho++;
+        if (raiz == NULO) {
+            raiz = aloca(valor, NULO);
+            return;
+        }
+        int p = raiz;
+        while (true) {
+            if (valor.compareTo(valor(p)) < 0) {
+                if (esquerda[p] == NULO) {
+                    int no = aloca(valor, p);
+                    esquerda[p] = no;
+                    ajustaFbInsercao(no);
+                    return;
+                }
+                p = esquerda[p];
+            } else {
+                if (direita[p] == NULO) {
+                    int no = aloca(valor, p);
+                    direita[p] = no;
+                    ajustaFbInsercao(no);
+                    return;
+                }
+                p = direita[p];
+            }
+        }
+    }
+
+    /**
+     * Exclui uma ocorrência do valor especificado. Se o nó tiver dois filhos,
+     * recebe o valor do seu sucessor, cuja posição é então liberada.
+     *
+     * @param valor O valor a excluir
+     * @return {@code true} se o valor estava na árvore
+     */
+    public boolean exclui(E valor) {
+        int no = localiza(valor);
+        if (no == NULO) {
+            return false;
+        }
+        tamanho--;
+
+        if (esquerda[no] != NULO && direita[no] != NULO) {
+            int sucessor = minimo(direita[no]);
+            valores[no] = valores[sucessor];
+            no = sucessor;
+        }
+
+        int filho = esquerda[no] != NULO ? esquerda[no] : direita[no];
+        int p = pai[no];
+        if (filho != NULO) {
+            pai[filho] = p;
+        }
+        boolean isFilhoDaEsquerda = p != NULO && esquerda[p] == no;
+        libera(no);
+
+        if (p == NULO) {
+            raiz = filho;
+            return true;
+        }
+        if (isFilhoDaEsquerda) {
+            esquerda[p] = filho;
+        } else {
+            direita[p] = filho;
+        }
+        ajustaFbExclusao(p, isFilhoDaEsquerda);
+        return true;
+    }
+
+    /**
+     * Retorna um iterador sobre os valores em ordem crescente. O iterador
+     * segue os índices dos pais e não deve ser usado após alterações na
+     * árvore.
+     *
+     * @return O iterador
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int no = raiz == NULO ? NULO : minimo(raiz);
+
+            @Override
+            public boolean hasNext() {
+                return no != NULO;
+            }
+
+            @Override
+            public E next() {
+                if (no == NULO) {
+                    throw new NoSuchElementException();
+                }
+                E valor = valor(no);
+                no = sucessor(no);
+                return valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna um stream sequencial dos valores em ordem crescente.
+     *
+     * @return O stream dos valores
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), tamanho,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL), false);
+    }
+
+    private void trocaFilho(int p, int antigo, int novo) {
+        pai[novo] = p;
+        if (p == NULO) {
+            raiz = novo;
+        } else if (esquerda[p] == antigo) {
+            esquerda[p] = novo;
+        } else {
+            direita[p] = novo;
+        }
+    }
+
+    private void rotacaoEsquerda(int x) {
+        int y = direita[x];
+        int p = pai[x];
+
+        int meio = esquerda[y];
+        direita[x] = meio;
+        if (meio != NULO) {
+            pai[meio] = x;
+        }
+
+        esquerda[y] = x;
+        pai[x] = y;
+        trocaFilho(p, x, y);
+    }
+
+    private void rotacaoDireita(int y) {
+        int x = esquerda[y];
+        int p = pai[y];
+
+        int meio = direita[x];
+        esquerda[y] = meio;
+        if (meio != NULO) {
+            pai[meio] = y;
+        }
+
+        direita[x] = y;
+        pai[y] = x;
+        trocaFilho(p, y, x);
+    }
+
+    /**
+     * Reequilibra o nó desregulado e retorna o nó que ocupou o seu lugar,
+     * como {@link ArvoreAVL#balanceia(ArvoreAVL)}.
+     */
+    private int balanceia(int p) {
+        if (fb[p] < 0) {
+            int q = esquerda[p];
+            if (fb[q] <= 0) {
+                rotacaoDireita(p);
+                if (fb[q] == 0) {
+                    fb[p] = -1;
+                    fb[q] = 1;
+                } else {
+                    fb[p] = 0;
+                    fb[q] = 0;
+                }
+                return q;
+            }
+            int r = direita[q];
+            rotacaoEsquerda(q);
+            rotacaoDireita(p);
+            ajustaFbRotacaoDupla(q, r, p);
+            return r;
+        } else {
+            int q = direita[p];
+            if (fb[q] >= 0) {
+                rotacaoEsquerda(p);
+                if (fb[q] == 0) {
+                    fb[p] = 1;
+                    fb[q] = -1;
+                } else {
+                    fb[p] = 0;
+                    fb[q] = 0;
+                }
+                return q;
+            }
+            int r = esquerda[q];
+            rotacaoDireita(q);
+            rotacaoEsquerda(p);
+            ajustaFbRotacaoDupla(p, r, q);
+            return r;
+        }
+    }
+
+    private void ajustaFbRotacaoDupla(int esq, int r, int dir) {
+        fb[esq] = (byte) (fb[r] > 0 ? -1 : 0);
+        fb[dir] = (byte) (fb[r] < 0 ? 1 : 0);
+        fb[r] = 0;
+    }
+
+    private void ajustaFbInsercao(int no) {
+        int filho = no;
+        int comp = pai[no];
+        while (comp != NULO) {
+            if (filho == esquerda[comp]) {
+                fb[comp]--;
+            } else {
+                fb[comp]++;
+            }
+            if (fb[comp] == 0) {
+                break;
+            }
+            if (fb[comp] < -1 || fb[comp] > 1) {
+                balanceia(comp);
+                break;
+            }
+            filho = comp;
+            comp = pai[comp];
+        }
+    }
+
+    private void ajustaFbExclusao(int comp, boolean isEsquerda) {
+        while (comp != NULO) {
+            if (isEsquerda) {
+                fb[comp]++;
+            } else {
+                fb[comp]--;
+            }
+            if (fb[comp] == 1 || fb[comp] == -1) {
+                break;
+            }
+            if (fb[comp] != 0) {
+                int filho = fb[comp] < 0 ? esquerda[comp] : direita[comp];
+                boolean mantemAltura = fb[filho] == 0;
+                comp = balanceia(comp);
+                if (mantemAltura) {
+                    break;
+                }
+            }
+            int p = pai[comp];
+            if (p != NULO) {
+                isEsquerda = comp == esquerda[p];
+            }
+            comp = p;
+        }
+    }
+}
@@ -0,0 +1,614 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Árvore B+ com ordem configurável. Cada nó guarda até {@code ordem} valores
+ * num vetor, de modo que uma pesquisa visita cerca de log<sub>ordem</sub> n
+ * nós, fazendo as comparações de cada nível dentro de um mesmo vetor, em vez
+ * de um nó por comparação como em {@link ArvoreBinariaPesquisa}. Os valores
+ * ficam apenas nas folhas; os nós internos guardam chaves de roteamento, e um
+ * valor igual a uma chave de roteamento está na subárvore à sua direita. As
+ * folhas são duplamente encadeadas, e os percursos em ordem e por intervalo
+ * avançam pelas folhas sem voltar aos nós internos.
+ *
+ * <p>
+ * Os métodos seguem os de {@link ArvoreBinariaPesquisa}, mas recebem e
+ * retornam valores, já que não há um nó por valor. Diferentemente de
+ * {@link ArvoreBinariaPesquisa}, valores repetidos não são aceitos.
+ *
+ * @param <E> O tipo do valor armazenado na árvore
+ */
+public class ArvoreBMais<E extends Comparable<E>> implements Iterable<E> {
+
+    /**
+     * Ordem usada pelo construtor padrão.
+     */
+    public static final int ORDEM_PADRAO = 32;
+
+    private abstract static class No {
+
+        final Object[] chaves;
+        int n;
+
+        No(int ordem) {
+            chaves = new Object[ordem];
+        }
+    }
+
+    private static final class Folha extends No {
+
+        Folha anterior;
+        Folha proxima;
+
+        Folha(int ordem) {
+            super(ordem);
+        }
+    }
+
+    private static final class Interno extends No {
+
+        final No[] filhos;
+
+        Interno(int ordem) {
+            super(ordem);
+            filhos = new No[ordem + 1];
+        }
+    }
+
+    /**
+     * Resultado da divisão de um nó cheio: o novo irmão à direita e a chave
+     * que o separa do nó original.
+     */
+    private static final class Divisao {
+
+        final Object separador;
+        final No direita;
+
+        Divisao(Object separador, No direita) {
+            this.separador = separador;
+            this.direita = direita;
+        }
+    }
+
+    private final int ordem;
+    private final int minimo;
+    private No raiz;
+    private int tamanho;
+    private int altura;
+
+    /**
+     * Cria uma árvore vazia com a ordem padrão.
+     */
+    public ArvoreBMais() {
+        this(ORDEM_PADRAO);
+    }
+
+    /**
+     * Cria uma árvore vazia com a ordem especificada.
+     *
+     * @param ordem O número máximo de valores por nó
+     * @throws IllegalArgumentException se a ordem for menor do que 3
+     */
+    public ArvoreBMais(int ordem) {
+        if (ordem < 3) {
+            throw new IllegalArgumentException("Ordem inválida: " + ordem);
+        }
+        this.ordem = ordem;
+        this.minimo = ordem / 2;
+        this.raiz = new Folha(ordem);
+    }
+
+    /**
+     * Retorna a ordem da árvore.
+     *
+     * @return O número máximo de valores por nó
+     */
+    public int getOrdem() {
+        return ordem;
+    }
+
+    /**
+     * Retorna o número de valores da árvore.
+     *
+     * @return O número de valores
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna a altura da árvore, isto é, o número de níveis de nós internos
+     * acima das folhas.
+     *
+     * @return A altura da árvore
+     */
+    public int getAltura() {
+        return altura;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compara(Object a, E b) {
+        return ((E) a).compareTo(b);
+    }
+
+    /**
+     * Retorna a posição do primeiro valor do nó maior ou igual ao
+     * especificado ({@code estrito} falso) ou estritamente maior.
+     */
+    private int limite(No no, E valor, boolean estrito) {
+        int inicio = 0;
+        int fim = no.n;
+        int alvo = estrito ? 0 : -1;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (compara(no.chaves[meio], valor) <= alvo) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    private Folha folha(E valor) {
+        No no = raiz;
+        while (no instanceof Interno) {
+            no = ((Interno) no).filhos[limite(no, valor, true)];
+        }
+        return (Folha) no;
+    }
+
+    private Folha primeiraFolha() {
+        No no = raiz;
+        while (no instanceof Interno) {
+            no = ((Interno) no).filhos[0];
+        }
+        return (Folha) no;
+    }
+
+    private Folha ultimaFolha() {
+        No no = raiz;
+        while (no instanceof Interno) {
+            no = ((Interno) no).filhos[no.n];
+        }
+        return (Folha) no;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E valor(No no, int i) {
+        return (E) no.chaves[i];
+    }
+
+    /**
+     * Pesquisa o valor especificado.
+     *
+     * @param valor O valor pesquisado
+     * @return O valor armazenado igual ao pesquisado ou {@code null} se não
+     * existir
+     */
+    public E pesquisa(E valor) {
+        Folha folha = folha(valor);
+        int i = limite(folha, valor, false);
+        return i < folha.n && compara(folha.chaves[i], valor) == 0 ? valor(folha, i) : null;
+    }
+
+    /**
+     * Verifica se o valor especificado está na árvore.
+     *
+     * @param valor O valor pesquisado
+     * @return {@code true} se o valor estiver na árvore
+     */
+    public boolean contem(E valor) {
+        return pesquisa(valor) != null;
+    }
+
+    /**
+     * Retorna o menor valor da árvore.
+     *
+     * @return O menor valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMinimo() {
+        Folha folha = primeiraFolha();
+        return folha.n == 0 ? null : valor(folha, 0);
+    }
+
+    /**
+     * Retorna o maior valor da árvore.
+     *
+     * @return O maior valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMaximo() {
+        Folha folha = ultimaFolha();
+        return folha.n == 0 ? null : valor(folha, folha.n - 1);
+    }
+
+    /**
+     * Retorna o menor valor maior ou igual ao especificado.
+     *
+     * @param valor O valor de referência
+     * @return O valor encontrado ou {@code null} se não houver
+     */
+    public E teto(E valor) {
+        return acima(valor, false);
+    }
+
+    /**
+     * Retorna o menor valor estritamente maior que o especificado, que não
+     * precisa estar na árvore.
+     *
+     * @param valor O valor de referência
+     * @return O valor encontrado ou {@code null} se não houver
+     */
+    public E proximoMaior(E valor) {
+        return acima(valor, true);
+    }
+
+    /**
+     * Retorna o maior valor menor ou igual ao especificado.
+     *
+     * @param valor O valor de referência
+     * @return O valor encontrado ou {@code null} se não houver
+     */
+    public E piso(E valor) {
+        return abaixo(valor, true);
+    }
+
+    /**
+     * Retorna o maior valor estritamente menor que o especificado, que não
+     * precisa estar na árvore.
+     *
+     * @param valor O valor de referência
+     * @return O valor encontrado ou {@code null} se não houver
+     */
+    public E proximoMenor(E valor) {
+        return abaixo(valor, false);
+    }
+
+    private E acima(E valor, boolean estrito) {
+        Folha folha = folha(valor);
+        int i = limite(folha, valor, estrito);
+        if (i == folha.n) {
+            folha = folha.proxima;
+            i = 0;
+        }
+        return folha == null ? null : valor(folha, i);
+    }
+
+    private E abaixo(E valor, boolean inclusivo) {
+        Folha folha = folha(valor);
+        int i = limite(folha, valor, inclusivo) - 1;
+        if (i < 0) {
+            folha = folha.anterior;
+            if (folha == null) {
+                return null;
+            }
+            i = folha.n - 1;
+        }
+        return valor(folha, i);
+    }
+
+    /**
+     * Insere o valor especificado.
+     *
+     * @param valor O valor a inserir
+     * @return {@code true} se o valor foi inserido, {@code false} se já
+     * estava na árvore
+     */
+    public boolean insere(E valor) {
+        if (valor == null) {
+            throw new NullPointerException();
+        }
+        int anterior = tamanho;
+        Divisao divisao = insere(raiz, valor);
+        if (divisao != null) {
+            Interno novaRaiz = new Interno(ordem);
+            novaRaiz.chaves[0] = divisao.separador;
+            novaRaiz.filhos[0] = raiz;
+            novaRaiz.filhos[1] = divisao.direita;
+            novaRaiz.n = 1;
+            raiz = novaRaiz;
+            altura++;
+        }
+        return tamanho != anterior;
+    }
+
+    private Divisao insere(No no, E valor) {
+        if (no instanceof Folha) {
+            Folha folha = (Folha) no;
+            int i = limite(folha, valor, false);
+            if (i < folha.n && compara(folha.chaves[i], valor) == 0) {
+                return null;
+            }
+            tamanho++;
+            if (folha.n < ordem) {
+                insereEm(folha.chaves, folha.n++, i, valor);
+                return null;
+            }
+            return divideFolha(folha, i, valor);
+        }
+
+        Interno interno = (Interno) no;
+        int i = limite(interno, valor, true);
+        Divisao divisao = insere(interno.filhos[i], valor);
+        if (divisao == null) {
+            return null;
+        }
+        if (interno.n < ordem) {
+            insereEm(interno.chaves, interno.n, i, divisao.separador);
+            insereEm(interno.filhos, interno.n + 1, i + 1, divisao.direita);
+            interno.n++;
+            return null;
+        }
+        return divideInterno(interno, i, divisao);
+    }
+
+    private static void insereEm(Object[] vetor, int n, int i, Object elemento) {
+        System.arraycopy(vetor, i, vetor, i + 1, n - i);
+        vetor[i] = elemento;
+    }
+
+    private static void removeDe(Object[] vetor, int n, int i) {
+        System.arraycopy(vetor, i + 1, vetor, i, n - i - 1);
+        vetor[n - 1] = null;
+    }
+
+    /**
+     * Divide a folha cheia, inserindo o valor na posição {@code i}, e liga a
+     * nova folha à direita da original.
+     */
+    private Divisao divideFolha(Folha folha, int i, E valor) {
+        Object[] todos = new Object[ordem + 1];
+        System.arraycopy(folha.chaves, 0, todos, 0, ordem);
+        insereEm(todos, ordem, i, valor);
+
+        Folha direita = new Folha(ordem);
+        int esquerda = (ordem + 1) / 2;
+        folha.n = esquerda;
+        direita.n = ordem + 1 - esquerda;
+        System.arraycopy(todos, 0, folha.chaves, 0, esquerda);
+        Arrays.fill(folha.chaves, esquerda, ordem, null);
+        System.arraycopy(todos, esquerda, direita.chaves, 0, direita.n);
+
+        direita.proxima = folha.proxima;
+        if (direita.proxima != null) {
+            direita.proxima.anterior = direita;
+        }
+        direita.anterior = folha;
+        folha.proxima = direita;
+        return new Divisao(direita.chaves[0], direita);
+    }
+
+    /**
+     * Divide o nó interno cheio, inserindo a divisão do filho {@code i}, e
+     * promove a chave central.
+     */
+    private Divisao divideInterno(Interno interno, int i, Divisao divisao) {
+        Object[] chaves = new Object[ordem + 1];
+        No[] filhos = new No[ordem + 2];
+        System.arraycopy(interno.chaves, 0, chaves, 0, ordem);
+        System.arraycopy(interno.filhos, 0, filhos, 0, ordem + 1);
+        insereEm(chaves, ordem, i, divisao.separador);
+        insereEm(filhos, ordem + 1, i + 1, divisao.direita);
+
+        int meio = (ordem + 1) / 2;
+        Interno direita = new Interno(ordem);
+        interno.n = meio;
+        direita.n = ordem - meio;
+        System.arraycopy(chaves, 0, interno.chaves, 0, meio);
+        System.arraycopy(filhos, 0, interno.filhos, 0, meio + 1);
+        Arrays.fill(interno.chaves, meio, ordem, null);
+        Arrays.fill(interno.filhos, meio + 1, ordem + 1, null);
+        System.arraycopy(chaves, meio + 1, direita.chaves, 0, direita.n);
+        System.arraycopy(filhos, meio + 1, direita.filhos, 0, direita.n + 1);
+        return new Divisao(chaves[meio], direita);
+    }
+
+    /**
+     * Exclui o valor especificado.
+     *
+     * @param valor O valor a excluir
+     * @return {@code true} se o valor estava na árvore
+     */
+    public boolean exclui(E valor) {
+        int anterior = tamanho;
+        exclui(raiz, valor);
+        if (raiz instanceof Interno && raiz.n == 0) {
+            raiz = ((Interno) raiz).filhos[0];
+            altura--;
+        }
+        return tamanho != anterior;
+    }
+
+    private void exclui(No no, E valor) {
+        if (no instanceof Folha) {
+            int i = limite(no, valor, false);
+            if (i < no.n && compara(no.chaves[i], valor) == 0) {
+                removeDe(no.chaves, no.n--, i);
+                tamanho--;
+            }
+            return;
+        }
+        Interno interno = (Interno) no;
+        int i = limite(interno, valor, true);
+        No filho = interno.filhos[i];
+        exclui(filho, valor);
+        if (filho.n < minimo) {
+            corrige(interno, i);
+        }
+    }
+
+    /**
+     * Corrige o filho {@code i} do nó interno, que ficou abaixo do mínimo,
+     * emprestando um valor de um irmão ou juntando-o a um irmão.
+     */
+    private void corrige(Interno pai, int i) {
+        if (i > 0 && pai.filhos[i - 1].n > minimo) {
+            emprestaDaEsquerda(pai, i);
+        } else if (i < pai.n && pai.filhos[i + 1].n > minimo) {
+            emprestaDaDireita(pai, i);
+        } else if (i > 0) {
+            junta(pai, i - 1);
+        } else {
+            junta(pai, i);
+        }
+    }
+
+    private void emprestaDaEsquerda(Interno pai, int i) {
+        No no = pai.filhos[i];
+        No esquerda = pai.filhos[i - 1];
+        if (no instanceof Folha) {
+            insereEm(no.chaves, no.n++, 0, esquerda.chaves[esquerda.n - 1]);
+            esquerda.chaves[--esquerda.n] = null;
+            pai.chaves[i - 1] = no.chaves[0];
+        } else {
+            Interno interno = (Interno) no;
+            Interno irmao = (Interno) esquerda;
+            insereEm(interno.chaves, interno.n, 0, pai.chaves[i - 1]);
+            insereEm(interno.filhos, interno.n + 1, 0, irmao.filhos[irmao.n]);
+            interno.n++;
+            pai.chaves[i - 1] = irmao.chaves[irmao.n - 1];
+            irmao.chaves[irmao.n - 1] = null;
+            irmao.filhos[irmao.n] = null;
+            irmao.n--;
+        }
+    }
+
+    private void emprestaDaDireita(Interno pai, int i) {
+        No no = pai.filhos[i];
+        No direita = pai.filhos[i + 1];
+        if (no instanceof Folha) {
+            no.chaves[no.n++] = direita.chaves[0];
+            removeDe(direita.chaves, direita.n--, 0);
+            pai.chaves[i] = direita.chaves[0];
+        } else {
+            Interno interno = (Interno) no;
+            Interno irmao = (Interno) direita;
+            interno.chaves[interno.n] = pai.chaves[i];
+            interno.filhos[interno.n + 1] = irmao.filhos[0];
+            interno.n++;
+            pai.chaves[i] = irmao.chaves[0];
+            removeDe(irmao.chaves, irmao.n, 0);
+            removeDe(irmao.filhos, irmao.n + 1, 0);
+            irmao.n--;
+        }
+    }
+
+    /**
+     * Junta o filho {@code i + 1} ao filho {@code i} e remove a chave que os
+     * separava.
+     */
+    private void junta(Interno pai, int i) {
+        No esquerda = pai.filhos[i];
+        No direita = pai.filhos[i + 1];
+        if (esquerda instanceof Folha) {
+            Folha folha = (Folha) esquerda;
+            Folha irma = (Folha) direita;
+            System.arraycopy(irma.chaves, 0, folha.chaves, folha.n, irma.n);
+            folha.n += irma.n;
+            folha.proxima = irma.proxima;
+            if (folha.proxima != null) {
+                folha.proxima.anterior = folha;
+            }
+        } else {
+            Interno interno = (Interno) esquerda;
+            Interno irmao = (Interno) direita;
+            interno.chaves[interno.n] = pai.chaves[i];
+            System.arraycopy(irmao.chaves, 0, interno.chaves, interno.n + 1, irmao.n);
+            System.arraycopy(irmao.filhos, 0, interno.filhos, interno.n + 1, irmao.n + 1);
+            interno.n += irmao.n + 1;
+        }
+        removeDe(pai.chaves, pai.n, i);
+        removeDe(pai.filhos, pai.n + 1, i + 1);
+        pai.n--;
+    }
+
+    /**
+     * Retorna os valores da árvore no intervalo especificado em ordem
+     * crescente, com a mesma convenção de
+     * {@link ArvoreBinariaPesquisa#faixa}: um limite nulo indica que o
+     * intervalo não é limitado daquele lado. O primeiro valor é localizado com
+     * uma descida e os demais são lidos em sequência nas folhas. A árvore não
+     * deve ser modificada durante a iteração.
+     *
+     * @param de O limite inferior
+     * @param incluiDe Indica se o limite inferior pertence ao intervalo
+     * @param ate O limite superior
+     * @param incluiAte Indica se o limite superior pertence ao intervalo
+     * @return Um iterador sobre os valores do intervalo
+     */
+    public Iterator<E> faixa(E de, boolean incluiDe, E ate, boolean incluiAte) {
+        Folha inicio = de == null ? primeiraFolha() : folha(de);
+        int posicao = de == null ? 0 : limite(inicio, de, !incluiDe);
+        return new Iterator<E>() {
+            private Folha folha = inicio;
+            private int i = posicao;
+            private boolean terminou;
+
+            {
+                avanca();
+            }
+
+            /**
+             * Passa para a próxima folha se a atual tiver acabado e verifica
+             * o limite superior.
+             */
+            private void avanca() {
+                while (folha != null && i >= folha.n) {
+                    folha = folha.proxima;
+                    i = 0;
+                }
+                if (folha == null) {
+                    terminou = true;
+                } else if (ate != null) {
+                    int comparacao = compara(folha.chaves[i], ate);
+                    terminou = comparacao > 0 || (comparacao == 0 && !incluiAte);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !terminou;
+            }
+
+            @Override
+            public E next() {
+                if (terminou) {
+                    throw new NoSuchElementException();
+                }
+                E valor = valor(folha, i++);
+                avanca();
+                return valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna um iterador sobre todos os valores em ordem crescente.
+     *
+     * @return O iterador
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return faixa(null, true, null, true);
+    }
+
+    /**
+     * Retorna um stream sequencial dos valores em ordem crescente.
+     *
+     * @return O stream dos valores
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), tamanho,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+}
@@ -1,7 +1,6 @@
 package utfpr.dainf.ct.ed.exemplo;
 
-import java.util.ArrayDeque;
-import java.util.Stack;
+import java.util.function.Supplier;
 
 /**
  * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
@@ -17,18 +16,31 @@ public class ArvoreBinaria<E> {
     protected E valor;
     protected ArvoreBinaria<E> esquerda;
     protected ArvoreBinaria<E> direita;
+    protected int altura;
 
-    private boolean start = true;
-    private Stack<ArvoreBinaria<E>> pilha;
-    private ArrayDeque<ArvoreBinaria<E>> fila;
-    private ArvoreBinaria<E> ultimoVisitado;
-    private ArvoreBinaria<E> noPos;
+    /**
+     * Estado dos percursos dos métodos {@code proximo*}, obsoletos. Fica
+     * {@code null} a menos que um deles seja chamado neste nó, e é coletado
+     * junto com a árvore.
+     */
+    private PercursoLegado<E> legado;
 
+    /**
+     * Calcula a altura da subárvore com raiz no nó especificado. Se o nó
+     * mantém a altura em cache, o valor armazenado é retornado diretamente;
+     * caso contrário a subárvore inteira é percorrida.
+     *
+     * @param node A raiz da subárvore
+     * @return A altura da subárvore (-1 para a árvore vazia)
+     */
     public static int calculaAltura(ArvoreBinaria node) {
         int alturaEsquerda, alturaDireita;
         if (node == null) {
             return -1;
         }
+        if (node.isAlturaEmCache()) {
+            return node.altura;
+        }
 
         alturaEsquerda = calculaAltura(node.esquerda);
         alturaDireita = calculaAltura(node.direita);
@@ -40,6 +52,38 @@ public class ArvoreBinaria<E> {
         }
     }
 
+    /**
+     * Indica se este nó mantém a altura da sua subárvore armazenada. Na árvore
+     * binária simples os nós não conhecem o pai, logo a altura não pode ser
+     * propagada e é sempre calculada percorrendo a subárvore. Classes
+     * derivadas que mantêm a altura atualizada devem retornar
+     * {@code true}.
+     *
+     * @return {@code true} se a altura está armazenada no nó
+     */
+    protected boolean isAlturaEmCache() {
+        return false;
+    }
+
+    /**
+     * Recalcula a altura armazenada neste nó a partir das alturas dos filhos.
+     * Não tem efeito se o nó não mantém a altura em cache.
+     */
+    protected void atualizaAltura() {
+        if (isAlturaEmCache()) {
+            altura = Math.max(calculaAltura(esquerda), calculaAltura(direita)) + 1;
+        }
+    }
+
+    /**
+     * Retorna a altura desta árvore.
+     *
+     * @return A altura da árvore
+     */
+    public int getAltura() {
+        return calculaAltura(this);
+    }
+
     /**
      * Cria uma árvore binária com valor nulo na raiz.
      */
@@ -174,164 +218,121 @@ public class ArvoreBinaria<E> {
         visitaPosOrdem(this);
     }
 
-    private void inicializaPilha() {
-        if (pilha == null) {
-            pilha = new Stack<>();
-        }
+    /**
+     * Cria um percurso em-ordem desta árvore, independente dos demais
+     * percursos.
+     *
+     * @return O percurso em-ordem
+     */
+    public Percurso<E> percursoEmOrdem() {
+        return new PercursoEmOrdem<>(this);
     }
 
-    private void inicializaFila() {
-        if (fila == null) {
-            fila = new ArrayDeque<>();
-        }
+    /**
+     * Cria um percurso em pré-ordem desta árvore, independente dos demais
+     * percursos.
+     *
+     * @return O percurso em pré-ordem
+     */
+    public Percurso<E> percursoPreOrdem() {
+        return new PercursoPreOrdem<>(this);
+    }
+
+    /**
+     * Cria um percurso em pós-ordem desta árvore, independente dos demais
+     * percursos.
+     *
+     * @return O percurso em pós-ordem
+     */
+    public Percurso<E> percursoPosOrdem() {
+        return new PercursoPosOrdem<>(this);
     }
 
     /**
-     * Reinicia o percurso a partir do início. Deve ser chamado após percorrer
-     * toda a árvore para realizar novo percurso ou para voltar ao início a
-     * qualquer momento.
+     * Cria um percurso em nível desta árvore, independente dos demais
+     * percursos.
+     *
+     * @return O percurso em nível
      */
+    public Percurso<E> percursoEmNivel() {
+        return new PercursoEmNivel<>(this);
+    }
+
+    /**
+     * Descarta o percurso iniciado neste nó pelos métodos {@code proximo*},
+     * de modo que a próxima chamada recomece do início.
+     *
+     * @deprecated Use um dos objetos retornados por {@link #percursoEmOrdem()},
+     * {@link #percursoPreOrdem()}, {@link #percursoPosOrdem()} ou
+     * {@link #percursoEmNivel()}, que não precisam ser reiniciados.
+     */
+    @Deprecated
     public void reinicia() {
-        inicializaPilha();
-        inicializaFila();
-        pilha.clear();
-        fila.clear();
-        ultimoVisitado = this;
-        start = true;
+        legado = null;
     }
 
     /**
-     * Retorna o valor do próximo nó em-ordem.
+     * Avança o percurso deste nó, criando um novo se o percurso atual for de
+     * outro tipo. Um percurso que terminou continua retornando {@code null}
+     * até ser reiniciado.
+     */
+    private ArvoreBinaria<E> proximo(Class<?> tipo, Supplier<Percurso<E>> criador) {
+        if (legado == null) {
+            legado = new PercursoLegado<>();
+        }
+        return legado.proximo(tipo, criador);
+    }
+
+    /**
+     * Retorna o próximo nó em-ordem. Ao fim do percurso retorna {@code null}
+     * até que {@link #reinicia()} seja chamado.
      *
-     * @return O valor do próximo nó em-ordem.
+     * @return O próximo nó em-ordem.
+     * @deprecated Use {@link #percursoEmOrdem()}, que permite percursos
+     * simultâneos.
      */
+    @Deprecated
     public ArvoreBinaria<E> proximoEmOrdem() {
-        ArvoreBinaria<E> retorno = null;
-        if (start) {
-            reinicia();
-            start = false;
-        }
-        if (!pilha.isEmpty() || ultimoVisitado != null) {
-            while (ultimoVisitado != null) {
-                pilha.push(ultimoVisitado);
-                ultimoVisitado = ultimoVisitado.esquerda;
-            }
-            ultimoVisitado = pilha.pop();
-            retorno = ultimoVisitado;
-            ultimoVisitado = ultimoVisitado.direita;
-        }
-        return retorno;
+        return proximo(PercursoEmOrdem.class, this::percursoEmOrdem);
     }
 
     /**
-     * Retorna o próximo nó em pré-ordem.
+     * Retorna o próximo nó em pré-ordem. Ao fim do percurso retorna
+     * {@code null} até que {@link #reinicia()} seja chamado.
      *
      * @return O próximo nó em pré-ordem.
+     * @deprecated Use {@link #percursoPreOrdem()}, que permite percursos
+     * simultâneos.
      */
+    @Deprecated
     public ArvoreBinaria<E> proximoPreOrdem() {
-        
-        ArvoreBinaria<E> retorno = null;
-
-        
-        if (start) {
-            reinicia();
-            start = false;
-        }
-
-        if (ultimoVisitado != null) {
-            pilha.push(ultimoVisitado);
-        }
-        
-        if (!pilha.isEmpty()) {
-            
-            ultimoVisitado = pilha.pop();
-            
-            retorno = ultimoVisitado;
-            
-            if (ultimoVisitado != null) {
-                if (ultimoVisitado.direita != null) {
-                    pilha.push(ultimoVisitado.direita);
-                }
-                if (ultimoVisitado.esquerda != null) {
-                    pilha.push(ultimoVisitado.esquerda);
-                }
-            }
-            
-            ultimoVisitado = !pilha.isEmpty() ? pilha.pop() : null;
-        }
-        return retorno;
+        return proximo(PercursoPreOrdem.class, this::percursoPreOrdem);
     }
 
     /**
-     * Retorna o próximo nó em pós-ordem.
+     * Retorna o próximo nó em pós-ordem. Ao fim do percurso retorna
+     * {@code null} até que {@link #reinicia()} seja chamado.
      *
      * @return O próximo nó em pós-ordem.
+     * @deprecated Use {@link #percursoPosOrdem()}, que permite percursos
+     * simultâneos.
      */
+    @Deprecated
     public ArvoreBinaria<E> proximoPosOrdem() {
-        
-        ArvoreBinaria<E> retorno = null;
-        boolean inicia = start;
-        
-        if (start) {
-            reinicia();
-            start = false;
-        }
-
-        if (pilha.isEmpty() && !inicia) {
-            return null;
-        } else {
-            retorno = pilha.isEmpty() ? ultimoVisitado : pilha.pop();
-        }
-
-        while (true) {
-            if (retorno.esquerda != null
-                    || retorno.direita != null) {
-
-                if (retorno.esquerda != null
-                        && retorno.esquerda != ultimoVisitado
-                        && retorno.direita != ultimoVisitado) {
-                    pilha.push(retorno);
-                    retorno = retorno.esquerda;
-                } else if (retorno.direita != null
-                        && retorno.direita != ultimoVisitado) {
-                    pilha.push(retorno);
-                    retorno = retorno.direita;
-                } else {
-                    ultimoVisitado = retorno;
-                    return retorno;
-                }
-            } else {
-                ultimoVisitado = retorno;
-                return retorno;
-            }
-        }
+        return proximo(PercursoPosOrdem.class, this::percursoPosOrdem);
     }
 
     /**
-     * Retorna o próximo nó em nível.
+     * Retorna o próximo nó em nível. Ao fim do percurso retorna {@code null}
+     * até que {@link #reinicia()} seja chamado.
      *
      * @return O próximo nó em nível.
+     * @deprecated Use {@link #percursoEmNivel()}, que permite percursos
+     * simultâneos.
      */
+    @Deprecated
     public ArvoreBinaria<E> proximoEmNivel() {
-        ArvoreBinaria<E> retorno = null;
-        if (start) {
-            reinicia();
-            start = false;
-            fila.add(this);
-        }
-
-        if (!fila.isEmpty()) {
-
-            retorno = fila.poll();
-
-            if (retorno.esquerda != null) {
-                fila.add(retorno.esquerda);
-            }
-            if (retorno.direita != null) {
-                fila.add(retorno.direita);
-            }
-        }
-        return retorno;
+        return proximo(PercursoEmNivel.class, this::percursoEmNivel);
     }
 
     /**
@@ -377,6 +378,7 @@ public class ArvoreBinaria<E> {
      */
     protected void setEsquerda(ArvoreBinaria<E> esquerda) {
         this.esquerda = esquerda;
+        atualizaAltura();
     }
 
     /**
@@ -386,6 +388,7 @@ public class ArvoreBinaria<E> {
      */
     protected void setDireita(ArvoreBinaria<E> direita) {
         this.direita = direita;
+        atualizaAltura();
     }
 
 }
@@ -1,7 +1,16 @@
 package utfpr.dainf.ct.ed.exemplo;
 
-import java.util.ArrayDeque;
-import java.util.Stack;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
@@ -15,24 +24,8 @@ import java.util.Stack;
 public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinaria<E> {
 
     public ArvoreBinariaPesquisa<E> pai;
-    protected Stack<ArvoreBinariaPesquisa<E>> pilha;
-    protected ArvoreBinariaPesquisa<E> ultimoVisitado;
-    private boolean start = true;
-    private ArvoreBinariaPesquisa<E> noPos;
-
-    private void inicializaPilha() {
-        if (pilha == null) {
-            pilha = new Stack<>();
-        }
-    }
-
-    public void reinicia() {
-        inicializaPilha();
-        pilha.clear();
-        ultimoVisitado = this;
-        start = true;
-    }
-
+    protected int tamanho = 1;
+    private boolean descartado;
     /**
      * Retorna a árvore esqueda.
      *
@@ -57,7 +50,18 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
      * @param esquerda A árvore esquerda.
      */
     protected void setEsquerda(ArvoreBinariaPesquisa<E> esquerda) {
-        this.esquerda = esquerda;
+        setEsquerda((ArvoreBinaria<E>) esquerda);
+    }
+
+    /**
+     * Inicializa a árvore esquerda e recalcula a altura e o tamanho deste nó.
+     *
+     * @param esquerda A árvore esquerda.
+     */
+    @Override
+    protected void setEsquerda(ArvoreBinaria<E> esquerda) {
+        super.setEsquerda(esquerda);
+        atualizaTamanho();
     }
 
     /**
@@ -66,7 +70,78 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
      * @param direita A árvore direita.
      */
     protected void setDireita(ArvoreBinariaPesquisa<E> direita) {
-        this.direita = direita;
+        setDireita((ArvoreBinaria<E>) direita);
+    }
+
+    /**
+     * Inicializa a árvore direita e recalcula a altura e o tamanho deste nó.
+     *
+     * @param direita A árvore direita.
+     */
+    @Override
+    protected void setDireita(ArvoreBinaria<E> direita) {
+        super.setDireita(direita);
+        atualizaTamanho();
+    }
+
+    /**
+     * Os nós da árvore binária de pesquisa conhecem o pai e, portanto, mantêm
+     * a altura da sua subárvore atualizada.
+     *
+     * @return {@code true}
+     */
+    @Override
+    protected boolean isAlturaEmCache() {
+        return true;
+    }
+
+    /**
+     * Retorna o número de nós da subárvore especificada.
+     *
+     * @param no A raiz da subárvore
+     * @return O número de nós (0 para a árvore vazia)
+     */
+    private static int tamanho(ArvoreBinaria<?> no) {
+        return no == null ? 0 : ((ArvoreBinariaPesquisa<?>) no).tamanho;
+    }
+
+    /**
+     * Recalcula o número de nós da subárvore deste nó a partir dos filhos.
+     */
+    protected void atualizaTamanho() {
+        tamanho = tamanho(esquerda) + tamanho(direita) + 1;
+    }
+
+    /**
+     * Recalcula o tamanho armazenado no nó especificado e em todos os seus
+     * ancestrais.
+     *
+     * @param no O nó mais baixo cuja subárvore mudou de tamanho
+     */
+    protected void atualizaTamanhos(ArvoreBinariaPesquisa<E> no) {
+        for (; no != null; no = no.pai) {
+            no.atualizaTamanho();
+        }
+    }
+
+    /**
+     * Recalcula a altura armazenada no nó especificado e nos seus ancestrais,
+     * parando no primeiro ancestral cuja altura não se altera.
+     *
+     * @param no O nó mais baixo cujos filhos foram modificados
+     */
+    protected void atualizaAlturas(ArvoreBinariaPesquisa<E> no) {
+        if (no == null) {
+            return;
+        }
+        no.atualizaAltura();
+        for (no = no.pai; no != null; no = no.pai) {
+            int anterior = no.altura;
+            no.atualizaAltura();
+            if (no.altura == anterior) {
+                break;
+            }
+        }
     }
 
     public ArvoreBinariaPesquisa<E> getRoot() {
@@ -82,10 +157,17 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
         ArvoreBinariaPesquisa<E> y = (ArvoreBinariaPesquisa<E>) esquerda;
         ArvoreBinariaPesquisa<E> z = x;
         esquerda = x;
+        x.setPai(this);
         while (z.esquerda != null) {
             z = (ArvoreBinariaPesquisa<E>) z.esquerda;
         }
         z.esquerda = y;
+        if (y != null) {
+            y.setPai(z);
+        }
+        atualizaTamanhos(z);
+        atualizaAlturas(z);
+        atualizaAlturas(this);
         return x;
     }
 
@@ -93,10 +175,17 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
         ArvoreBinariaPesquisa<E> y = (ArvoreBinariaPesquisa<E>) direita;
         ArvoreBinariaPesquisa<E> z = x;
         direita = x;
+        x.setPai(this);
         while (z.direita != null) {
             z = (ArvoreBinariaPesquisa<E>) z.direita;
         }
         z.direita = y;
+        if (y != null) {
+            y.setPai(z);
+        }
+        atualizaTamanhos(z);
+        atualizaAlturas(z);
+        atualizaAlturas(this);
         return x;
     }
 
@@ -108,22 +197,13 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
         }
     }
 
+    /**
+     * @deprecated Use {@link #percursoEmOrdem()}.
+     */
+    @Deprecated
+    @Override
     public ArvoreBinariaPesquisa<E> proximoEmOrdem() {
-        ArvoreBinariaPesquisa<E> retorno = null;
-        if (start) {
-            reinicia();
-            start = false;
-        }
-        if (!pilha.isEmpty() || ultimoVisitado != null) {
-            while (ultimoVisitado != null) {
-                pilha.push(ultimoVisitado);
-                ultimoVisitado = (ArvoreBinariaPesquisa<E>) ultimoVisitado.esquerda;
-            }
-            ultimoVisitado = pilha.pop();
-            retorno = ultimoVisitado;
-            ultimoVisitado = (ArvoreBinariaPesquisa<E>) ultimoVisitado.direita;
-        }
-        return retorno;
+        return (ArvoreBinariaPesquisa<E>) super.proximoEmOrdem();
     }
 
     /**
@@ -137,6 +217,7 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
      * Cria uma árvore com valor nulo na raiz.
      */
     public ArvoreBinariaPesquisa() {
+        tamanho = 0;
     }
 
     /**
@@ -166,25 +247,44 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
         return pai;
     }
 
+    /**
+     * Pesquisa o nó com o valor especificado nesta árvore. A pesquisa é
+     * iterativa e compara o valor uma única vez por nível.
+     *
+     * @param value O valor pesquisado
+     * @return O nó com o valor pesquisado ou {@code null} se não existir
+     */
     public ArvoreBinariaPesquisa<E> pesquisa(E value) {
-        
-        if (value.compareTo(this.value) == 0) {
-            return this;
-        } else if (value.compareTo(this.value) < 0) {
-            if (this.esquerda == null) {
-                return null;
-                
-            } else {
-                return ((ArvoreBinariaPesquisa<E>) this.esquerda).pesquisa(value);
+        ArvoreBinariaPesquisa<E> no = this;
+        while (no != null) {
+            int comparacao = value.compareTo(no.valor);
+            if (comparacao == 0) {
+                return no;
             }
-        } else {
-            if (this.direita == null) {
-                return null;
-                
-            } else {
-                return ((ArvoreBinariaPesquisa<E>) this.direita).pesquisa(value);
+            no = (ArvoreBinariaPesquisa<E>) (comparacao < 0 ? no.esquerda : no.direita);
+        }
+        return null;
+    }
+
+    /**
+     * Pesquisa o nó com o valor especificado usando o comparador informado.
+     * O comparador deve ordenar os valores da mesma forma que a ordem natural
+     * usada na inserção, caso contrário o resultado é indefinido.
+     *
+     * @param value O valor pesquisado
+     * @param comparador O comparador dos valores
+     * @return O nó com o valor pesquisado ou {@code null} se não existir
+     */
+    public ArvoreBinariaPesquisa<E> pesquisa(E value, Comparator<? super E> comparador) {
+        ArvoreBinariaPesquisa<E> no = this;
+        while (no != null) {
+            int comparacao = comparador.compare(value, no.valor);
+            if (comparacao == 0) {
+                return no;
             }
+            no = (ArvoreBinariaPesquisa<E>) (comparacao < 0 ? no.esquerda : no.direita);
         }
+        return null;
     }
 
     public ArvoreBinariaPesquisa<E> getMinimoRamo() 
@@ -228,21 +328,87 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
         return retorno;
     }
 
-    
-    public ArvoreBinariaPesquisa<E> sucessor(ArvoreBinariaPesquisa<E> node) {
-        ArvoreBinariaPesquisa<E> raiz = getRoot();
-        
-        node = raiz.pesquisa(node.valor);
-        if(node==null){
+    /**
+     * Retorna o número de nós desta árvore.
+     *
+     * @return O número de nós
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna o nó que ocupa a posição {@code k} no percurso em-ordem desta
+     * árvore, isto é, o nó com o k-ésimo menor valor (contado a partir de 0).
+     *
+     * @param k A posição do nó
+     * @return O nó na posição k ou {@code null} se k estiver fora dos limites
+     */
+    public ArvoreBinariaPesquisa<E> seleciona(int k) {
+        if (k < 0 || k >= tamanho) {
             return null;
         }
+        ArvoreBinariaPesquisa<E> no = this;
+        while (no != null) {
+            int t = tamanho(no.esquerda);
+            if (k < t) {
+                no = (ArvoreBinariaPesquisa<E>) no.esquerda;
+            } else if (k == t) {
+                return no;
+            } else {
+                k -= t + 1;
+                no = (ArvoreBinariaPesquisa<E>) no.direita;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retorna o número de valores desta árvore estritamente menores que o
+     * valor especificado, que é também a posição em que ele seria encontrado
+     * no percurso em-ordem.
+     *
+     * @param valor O valor pesquisado
+     * @return O número de valores menores que {@code valor}
+     */
+    public int posicao(E valor) {
+        int posicao = 0;
+        if (tamanho == 0) {
+            return posicao;
+        }
+        ArvoreBinariaPesquisa<E> no = this;
+        while (no != null) {
+            if (valor.compareTo(no.valor) <= 0) {
+                no = (ArvoreBinariaPesquisa<E>) no.esquerda;
+            } else {
+                posicao += tamanho(no.esquerda) + 1;
+                no = (ArvoreBinariaPesquisa<E>) no.direita;
+            }
+        }
+        return posicao;
+    }
+
+    /**
+     * Retorna o sucessor em-ordem do nó especificado, que deve pertencer a
+     * esta árvore. O sucessor é obtido a partir do próprio nó, subindo pelos
+     * pais quando necessário, sem nova pesquisa a partir da raiz; percorrer a
+     * árvore inteira por sucessores custa O(1) amortizado por passo.
+     *
+     * @param node O nó de referência
+     * @return O sucessor do nó ou {@code null} se ele for o máximo
+     */
+    public ArvoreBinariaPesquisa<E> sucessor(ArvoreBinariaPesquisa<E> node) {
+        return sucessorDe(node);
+    }
+
+    static <E extends Comparable<E>> ArvoreBinariaPesquisa<E> sucessorDe(ArvoreBinariaPesquisa<E> node) {
         if (node.direita != null) {
             return ((ArvoreBinariaPesquisa<E>) node.direita).getMinimoRamo();
         }
 
         ArvoreBinariaPesquisa<E> pai = node.pai;
 
-        while (pai != null && node.equals(pai.direita)) {
+        while (pai != null && node == pai.direita) {
             node = pai;
             pai = pai.pai;
         }
@@ -250,24 +416,354 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
         return pai;
     }
 
+    /**
+     * Retorna o predecessor em-ordem do nó especificado, que deve pertencer a
+     * esta árvore. Assim como em {@link #sucessor(ArvoreBinariaPesquisa)}, a
+     * raiz não é consultada.
+     *
+     * @param node O nó de referência
+     * @return O predecessor do nó ou {@code null} se ele for o mínimo
+     */
     public ArvoreBinariaPesquisa<E> predecessor(ArvoreBinariaPesquisa<E> node) {
-        ArvoreBinariaPesquisa<E> raiz = getRoot();
-        
-        node = root.pesquisa(node.valor);
-        
-        if (node != null && node.esquerda != null) {
+        return predecessorDe(node);
+    }
+
+    static <E extends Comparable<E>> ArvoreBinariaPesquisa<E> predecessorDe(ArvoreBinariaPesquisa<E> node) {
+        if (node.esquerda != null) {
             return ((ArvoreBinariaPesquisa<E>) node.esquerda).getMaximoRamo();
         }
 
         ArvoreBinariaPesquisa<E> pai = node.pai;
 
-        while (pai != null && no.equals(pai.esquerda)) {
+        while (pai != null && node == pai.esquerda) {
             node = pai;
             pai = pai.pai;
         }
         return pai;
     }
 
+    /**
+     * Retorna o nó com o menor valor estritamente maior que o valor
+     * especificado, que não precisa estar na árvore.
+     *
+     * @param valor O valor de referência
+     * @return O nó encontrado ou {@code null} se não houver valor maior
+     */
+    public ArvoreBinariaPesquisa<E> proximoMaior(E valor) {
+        ArvoreBinariaPesquisa<E> candidato = null;
+        ArvoreBinariaPesquisa<E> no = tamanho == 0 ? null : this;
+        while (no != null) {
+            if (valor.compareTo(no.valor) < 0) {
+                candidato = no;
+                no = (ArvoreBinariaPesquisa<E>) no.esquerda;
+            } else {
+                no = (ArvoreBinariaPesquisa<E>) no.direita;
+            }
+        }
+        return candidato;
+    }
+
+    /**
+     * Retorna o nó com o maior valor estritamente menor que o valor
+     * especificado, que não precisa estar na árvore.
+     *
+     * @param valor O valor de referência
+     * @return O nó encontrado ou {@code null} se não houver valor menor
+     */
+    public ArvoreBinariaPesquisa<E> proximoMenor(E valor) {
+        ArvoreBinariaPesquisa<E> candidato = null;
+        ArvoreBinariaPesquisa<E> no = tamanho == 0 ? null : this;
+        while (no != null) {
+            if (valor.compareTo(no.valor) > 0) {
+                candidato = no;
+                no = (ArvoreBinariaPesquisa<E>) no.direita;
+            } else {
+                no = (ArvoreBinariaPesquisa<E>) no.esquerda;
+            }
+        }
+        return candidato;
+    }
+
+    /**
+     * Retorna o primeiro nó em-ordem com valor maior ou igual ao valor
+     * especificado.
+     *
+     * @param valor O valor de referência
+     * @return O nó encontrado ou {@code null} se não houver valor maior ou
+     * igual
+     */
+    public ArvoreBinariaPesquisa<E> teto(E valor) {
+        ArvoreBinariaPesquisa<E> candidato = null;
+        ArvoreBinariaPesquisa<E> no = tamanho == 0 ? null : this;
+        while (no != null) {
+            if (valor.compareTo(no.valor) <= 0) {
+                candidato = no;
+                no = (ArvoreBinariaPesquisa<E>) no.esquerda;
+            } else {
+                no = (ArvoreBinariaPesquisa<E>) no.direita;
+            }
+        }
+        return candidato;
+    }
+
+    /**
+     * Retorna o último nó em-ordem com valor menor ou igual ao valor
+     * especificado.
+     *
+     * @param valor O valor de referência
+     * @return O nó encontrado ou {@code null} se não houver valor menor ou
+     * igual
+     */
+    public ArvoreBinariaPesquisa<E> piso(E valor) {
+        ArvoreBinariaPesquisa<E> candidato = null;
+        ArvoreBinariaPesquisa<E> no = tamanho == 0 ? null : this;
+        while (no != null) {
+            if (valor.compareTo(no.valor) >= 0) {
+                candidato = no;
+                no = (ArvoreBinariaPesquisa<E>) no.direita;
+            } else {
+                no = (ArvoreBinariaPesquisa<E>) no.esquerda;
+            }
+        }
+        return candidato;
+    }
+
+    /**
+     * Conta os valores menores que o valor especificado ou, se
+     * {@code inclusivo}, menores ou iguais a ele.
+     */
+    private int contaAte(E valor, boolean inclusivo) {
+        int conta = 0;
+        ArvoreBinariaPesquisa<E> no = tamanho == 0 ? null : this;
+        while (no != null) {
+            int comparacao = valor.compareTo(no.valor);
+            if (comparacao < 0 || comparacao == 0 && !inclusivo) {
+                no = (ArvoreBinariaPesquisa<E>) no.esquerda;
+            } else {
+                conta += tamanho(no.esquerda) + 1;
+                no = (ArvoreBinariaPesquisa<E>) no.direita;
+            }
+        }
+        return conta;
+    }
+
+    /**
+     * Conta os valores da árvore no intervalo especificado. Um limite nulo
+     * indica que o intervalo não é limitado daquele lado.
+     *
+     * @param de O limite inferior
+     * @param incluiDe Indica se o limite inferior pertence ao intervalo
+     * @param ate O limite superior
+     * @param incluiAte Indica se o limite superior pertence ao intervalo
+     * @return O número de valores no intervalo
+     */
+    public int contaFaixa(E de, boolean incluiDe, E ate, boolean incluiAte) {
+        ArvoreBinariaPesquisa<E> raiz = getRoot();
+        int fim = ate == null ? raiz.tamanho : raiz.contaAte(ate, incluiAte);
+        int inicio = de == null ? 0 : raiz.contaAte(de, !incluiDe);
+        return Math.max(fim - inicio, 0);
+    }
+
+    /**
+     * Retorna um {@link Spliterator} sobre todos os valores da árvore em ordem
+     * crescente. Ele se divide pela posição dos valores, usando os tamanhos
+     * das subárvores, em partes de tamanho exato, o que permite processar a
+     * árvore em paralelo.
+     *
+     * @return O spliterator da árvore
+     */
+    public Spliterator<E> spliterator() {
+        ArvoreBinariaPesquisa<E> raiz = getRoot();
+        return new SpliteratorArvore<>(raiz, null, 0, raiz.tamanho);
+    }
+
+    /**
+     * Retorna um {@link Stream} sequencial sobre todos os valores da árvore em
+     * ordem crescente. Use {@link Stream#parallel()} para processá-lo em
+     * paralelo.
+     *
+     * @return O stream da árvore
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Retorna a raiz da árvore ou {@code null} se a árvore estiver vazia (raiz
+     * com valor nulo).
+     */
+    private ArvoreBinariaPesquisa<E> getRaizNaoVazia() {
+        ArvoreBinariaPesquisa<E> raiz = getRoot();
+        return raiz.tamanho == 0 ? null : raiz;
+    }
+
+    /**
+     * Executa a ação especificada para cada valor da árvore, em paralelo, no
+     * {@link ForkJoinPool} comum. A ordem das chamadas não é definida e a
+     * ação deve tolerar execução concorrente.
+     *
+     * @param acao A ação a executar
+     */
+    public void paraCadaParalelo(Consumer<? super E> acao) {
+        ForkJoinPool.commonPool().invoke(new OperacoesParalelas.ParaCada<>(getRaizNaoVazia(), acao));
+    }
+
+    /**
+     * Reduz os valores da árvore em paralelo, combinando-os na ordem do
+     * percurso em-ordem. O operador deve ser associativo e
+     * {@code identidade} deve ser seu elemento neutro.
+     *
+     * @param identidade O elemento neutro do operador
+     * @param operador O operador de redução
+     * @return O resultado da redução ({@code identidade} se a árvore estiver
+     * vazia)
+     */
+    public E reduzParalelo(E identidade, BinaryOperator<E> operador) {
+        return ForkJoinPool.commonPool().invoke(new OperacoesParalelas.Reduz<>(getRaizNaoVazia(), identidade, operador));
+    }
+
+    /**
+     * Conta, em paralelo, os valores da árvore que satisfazem o predicado.
+     *
+     * @param predicado O predicado avaliado em cada valor
+     * @return O número de valores que satisfazem o predicado
+     */
+    public long contaParalelo(Predicate<? super E> predicado) {
+        return ForkJoinPool.commonPool().invoke(new OperacoesParalelas.Conta<>(getRaizNaoVazia(), predicado));
+    }
+
+    /**
+     * Coleta os valores da árvore em paralelo. Os resultados parciais são
+     * combinados na ordem do percurso em-ordem, de modo que coletores
+     * ordenados, como {@link java.util.stream.Collectors#toList()}, recebem
+     * os valores em ordem crescente.
+     *
+     * @param <A> O tipo do recipiente intermediário do coletor
+     * @param <R> O tipo do resultado
+     * @param coletor O coletor
+     * @return O resultado da coleta
+     */
+    public <A, R> R coletaParalelo(Collector<? super E, A, R> coletor) {
+        A recipiente = ForkJoinPool.commonPool().invoke(new OperacoesParalelas.Coleta<>(getRaizNaoVazia(), coletor));
+        return coletor.finisher().apply(recipiente);
+    }
+
+    /**
+     * Retorna uma cópia imutável da árvore inteira com os valores num vetor na
+     * ordem de Eytzinger, adequada para árvores que não serão mais alteradas.
+     * As pesquisas na cópia não seguem referências entre nós.
+     *
+     * @return A árvore congelada
+     */
+    public ArvoreCongelada<E> congela() {
+        ArvoreBinariaPesquisa<E> raiz = getRaizNaoVazia();
+        Object[] ordenados = new Object[raiz == null ? 0 : raiz.tamanho];
+        if (raiz != null) {
+            Percurso<E> percurso = raiz.percursoEmOrdem();
+            for (int i = 0; i < ordenados.length; i++) {
+                ordenados[i] = percurso.proximo().valor;
+            }
+        }
+        return new ArvoreCongelada<>(ordenados);
+    }
+
+    /**
+     * Retorna os valores da árvore no intervalo especificado em ordem
+     * crescente. O primeiro valor é localizado com uma única descida a partir
+     * da raiz e os demais são obtidos sob demanda, por sucessores, até o
+     * limite superior, com custo O(log n + k) para k valores. Um limite nulo
+     * indica que o intervalo não é limitado daquele lado. A árvore não deve ser
+     * modificada durante a iteração.
+     *
+     * @param de O limite inferior
+     * @param incluiDe Indica se o limite inferior pertence ao intervalo
+     * @param ate O limite superior
+     * @param incluiAte Indica se o limite superior pertence ao intervalo
+     * @return Um iterador sobre os valores do intervalo
+     */
+    public Iterator<E> faixa(E de, boolean incluiDe, E ate, boolean incluiAte) {
+        ArvoreBinariaPesquisa<E> raiz = getRoot();
+        ArvoreBinariaPesquisa<E> primeiro;
+        if (raiz.tamanho == 0) {
+            primeiro = null;
+        } else if (de == null) {
+            primeiro = raiz.getMinimoRamo();
+        } else {
+            primeiro = incluiDe ? raiz.teto(de) : raiz.proximoMaior(de);
+        }
+        return new IteradorFaixa<>(primeiro, ate, incluiAte, true);
+    }
+
+    /**
+     * Retorna os valores da árvore no intervalo especificado em ordem
+     * decrescente, a partir do limite superior. Os parâmetros têm o mesmo
+     * significado que em {@link #faixa(Comparable, boolean, Comparable, boolean)}.
+     *
+     * @param de O limite inferior
+     * @param incluiDe Indica se o limite inferior pertence ao intervalo
+     * @param ate O limite superior
+     * @param incluiAte Indica se o limite superior pertence ao intervalo
+     * @return Um iterador sobre os valores do intervalo
+     */
+    public Iterator<E> faixaDecrescente(E de, boolean incluiDe, E ate, boolean incluiAte) {
+        ArvoreBinariaPesquisa<E> raiz = getRoot();
+        ArvoreBinariaPesquisa<E> primeiro;
+        if (raiz.tamanho == 0) {
+            primeiro = null;
+        } else if (ate == null) {
+            primeiro = raiz.getMaximoRamo();
+        } else {
+            primeiro = incluiAte ? raiz.piso(ate) : raiz.proximoMenor(ate);
+        }
+        return new IteradorFaixa<>(primeiro, de, incluiDe, false);
+    }
+
+    /**
+     * Retorna um {@link Spliterator} sobre os valores do intervalo em ordem
+     * crescente, com tamanho exato calculado pelos tamanhos das subárvores.
+     *
+     * @param de O limite inferior
+     * @param incluiDe Indica se o limite inferior pertence ao intervalo
+     * @param ate O limite superior
+     * @param incluiAte Indica se o limite superior pertence ao intervalo
+     * @return O spliterator do intervalo
+     */
+    public Spliterator<E> spliteratorFaixa(E de, boolean incluiDe, E ate, boolean incluiAte) {
+        return Spliterators.spliterator(faixa(de, incluiDe, ate, incluiAte),
+                contaFaixa(de, incluiDe, ate, incluiAte),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Retorna um {@link Stream} sequencial sobre os valores do intervalo em
+     * ordem crescente.
+     *
+     * @param de O limite inferior
+     * @param incluiDe Indica se o limite inferior pertence ao intervalo
+     * @param ate O limite superior
+     * @param incluiAte Indica se o limite superior pertence ao intervalo
+     * @return O stream do intervalo
+     */
+    public Stream<E> streamFaixa(E de, boolean incluiDe, E ate, boolean incluiAte) {
+        return StreamSupport.stream(spliteratorFaixa(de, incluiDe, ate, incluiAte), false);
+    }
+
+    /**
+     * Retorna um {@link Stream} sequencial sobre os valores do intervalo em
+     * ordem decrescente.
+     *
+     * @param de O limite inferior
+     * @param incluiDe Indica se o limite inferior pertence ao intervalo
+     * @param ate O limite superior
+     * @param incluiAte Indica se o limite superior pertence ao intervalo
+     * @return O stream do intervalo
+     */
+    public Stream<E> streamFaixaDecrescente(E de, boolean incluiDe, E ate, boolean incluiAte) {
+        return StreamSupport.stream(Spliterators.spliterator(faixaDecrescente(de, incluiDe, ate, incluiAte),
+                contaFaixa(de, incluiDe, ate, incluiAte),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
     public ArvoreBinariaPesquisa<E> insere(E valor) {
         return insere(new ArvoreBinariaPesquisa<>(valor));
     }
@@ -279,45 +775,126 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
         return raiz.inserir(node);
     }
     
+    /**
+     * Insere o nó especificado como folha da subárvore deste nó. A descida é
+     * iterativa, de modo que árvores degeneradas, como as árvores splay após
+     * inserções em ordem, não esgotam a pilha.
+     *
+     * @param node O nó a ser inserido
+     * @return O nó inserido
+     */
     public ArvoreBinariaPesquisa<E> inserir(ArvoreBinariaPesquisa<E> node) {
-        
-        if (node.valor.compareTo(this.valor) < 0) {
-            if (this.esquerda == null) {
-
-                this.setEsquerda(node);
-                node.setPai(this);
-                return no;
+        ArvoreBinariaPesquisa<E> pai = this;
+        while (true) {
+            if (node.valor.compareTo(pai.valor) < 0) {
+                if (pai.esquerda == null) {
+                    pai.setEsquerda(node);
+                    break;
+                }
+                pai = (ArvoreBinariaPesquisa<E>) pai.esquerda;
             } else {
-                return ((ArvoreBinariaPesquisa<E>) this.esquerda).inserir(node);
+                if (pai.direita == null) {
+                    pai.setDireita(node);
+                    break;
+                }
+                pai = (ArvoreBinariaPesquisa<E>) pai.direita;
             }
-        } else {
-            if (this.direita == null) {
+        }
+        node.setPai(pai);
+        pai.ajustaInsercao(node);
+        return node;
+    }
 
-                this.setDireita(node);
-                node.setPai(this);
-                return no;
-            } else {
-                return ((ArvoreBinariaPesquisa<E>) this.direita).inserir(node);
-            }
+    /**
+     * Ajusta a árvore após a inserção de um nó folha. A implementação padrão
+     * atualiza as alturas dos ancestrais; classes derivadas podem
+     * sobrecarregar este método para reequilibrar a árvore.
+     *
+     * @param node O nó recém-inserido
+     */
+    protected void ajustaInsercao(ArvoreBinariaPesquisa<E> node) {
+        atualizaTamanhos(node.pai);
+        atualizaAlturas(node.pai);
+    }
+
+    /**
+     * Substitui o conteúdo deste nó pelo do filho especificado, que deixa de
+     * fazer parte da árvore. Usado para excluir a raiz quando ela tem um único
+     * filho, já que a referência para a raiz deve ser preservada.
+     *
+     * @param filho O único filho deste nó
+     */
+    private void absorveFilho(ArvoreBinariaPesquisa<E> filho) {
+        valor = filho.valor;
+        esquerda = filho.esquerda;
+        direita = filho.direita;
+        if (esquerda != null) {
+            ((ArvoreBinariaPesquisa<E>) esquerda).setPai(this);
+        }
+        if (direita != null) {
+            ((ArvoreBinariaPesquisa<E>) direita).setPai(this);
         }
+        atualizaAltura();
+        atualizaTamanho();
+        descarta(filho);
+    }
+
+    /**
+     * Desliga o nó especificado, que acabou de ser removido da árvore, e o
+     * marca como descartado. O valor é mantido. Referências guardadas fora da
+     * árvore, como as de {@link CachePesquisa}, reconhecem assim o nó removido
+     * sem percorrer a árvore e sem depender do seu tamanho.
+     *
+     * @param no O nó removido
+     */
+    protected static void descarta(ArvoreBinariaPesquisa<?> no) {
+        no.pai = null;
+        no.esquerda = null;
+        no.direita = null;
+        no.tamanho = 0;
+        no.descartado = true;
+    }
+
+    /**
+     * Indica se este nó foi removido da árvore por {@link #descarta}.
+     */
+    boolean isDescartado() {
+        return descartado;
+    }
+
+    /**
+     * Pesquisa o nó com o valor especificado passando pelo cache informado,
+     * que deve ser usado sempre com a mesma árvore.
+     *
+     * @param valor O valor pesquisado
+     * @param cache O cache de pesquisas desta árvore
+     * @return O nó com o valor pesquisado ou {@code null} se não existir
+     */
+    public ArvoreBinariaPesquisa<E> pesquisa(E valor, CachePesquisa<E> cache) {
+        return cache.pesquisa(this, valor);
     }
 
-    
-    
     public ArvoreBinariaPesquisa<E> exclui(ArvoreBinariaPesquisa<E> node) {
         node = pesquisa(node.valor);
+        if (node == null) {
+            return this;
+        }
         ArvoreBinariaPesquisa<E> retorno = node;
 
         if (retorno.direita == null && retorno.esquerda == null) {
             if (retorno.pai == null)
             {
                 node.valor = null;
+                node.tamanho = 0;
             } else {
                 if (retorno == retorno.pai.direita) {
                     retorno.pai.direita = null;
                 } else if (retorno == retorno.pai.esquerda) {
                     retorno.pai.esquerda = null;
                 }
+                atualizaTamanhos(retorno.pai);
+                atualizaAlturas(retorno.pai);
+                descarta(retorno);
             }
         } 
         else if (retorno.direita != null && retorno.esquerda == null) 
@@ -330,10 +907,12 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
                 } else if (retorno == retorno.pai.esquerda) {
                     retorno.pai.esquerda = retorno.direita;
                 }
+                atualizaTamanhos(retorno.pai);
+                atualizaAlturas(retorno.pai);
+                descarta(retorno);
             } else 
             {
-                retorno.valor = retorno.direita.valor;
-                retorno.direita = null;
+                retorno.absorveFilho((ArvoreBinariaPesquisa<E>) retorno.direita);
             }
         } else if (retorno.direita == null && retorno.esquerda != null) 
         {
@@ -344,10 +923,12 @@ public class ArvoreBinariaPesquisa<E extends Comparable<E>> extends ArvoreBinari
                 } else if (retorno == retorno.pai.esquerda) {
                     retorno.pai.esquerda = retorno.esquerda;
                 }
+                atualizaTamanhos(retorno.pai);
+                atualizaAlturas(retorno.pai);
+                descarta(retorno);
             } else 
             {
-                retorno.valor = retorno.esquerda.valor;
-                retorno.esquerda = null;
+                retorno.absorveFilho((ArvoreBinariaPesquisa<E>) retorno.esquerda);
             }
         } 
         else if (retorno.direita != null && retorno.esquerda != null) {
@@ -0,0 +1,431 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Árvore binária de pesquisa concorrente e livre de bloqueio, segundo Ellen,
+ * Fatourou, Ruppert e van Breugel, "Non-blocking Binary Search Trees" (PODC
+ * 2010).
+ *
+ * <p>
+ * A árvore é externa: os valores ficam nas folhas e os nós internos guardam
+ * apenas chaves de roteamento, sempre com dois filhos. Valores menores do que
+ * a chave de um nó interno ficam à sua esquerda e os demais à direita. Duas
+ * folhas sentinela, maiores do que qualquer valor, garantem que todo nó de
+ * valor tenha pai e avô.
+ *
+ * <p>
+ * Cada nó interno tem um campo de atualização, alterado por CAS, que indica
+ * se há uma inserção ({@code IFLAG}) ou exclusão ({@code DFLAG}) em andamento
+ * sob ele ou se ele está sendo removido ({@code MARK}). Uma thread que
+ * encontra uma operação em andamento a completa antes de tentar a sua, de
+ * modo que nenhuma thread espera por outra. As pesquisas apenas leem os
+ * campos e nunca bloqueiam nem repetem. Inserção, exclusão e pesquisa são
+ * linearizáveis; {@link #sucessor(Comparable)}, {@link #predecessor(Comparable)},
+ * {@link #getMinimo()} e {@link #getMaximo()} também não bloqueiam, mas
+ * combinam leituras de mais de um caminho e, sob alterações concorrentes,
+ * retornam apenas um valor presente na árvore em algum momento da chamada.
+ *
+ * <p>
+ * Os valores não se repetem: a inserção de um valor já presente não altera a
+ * árvore. O valor {@code null} não é aceito.
+ *
+ * @param <E> O tipo do valor armazenado na árvore
+ */
+public class ArvoreBinariaPesquisaSemBloqueio<E extends Comparable<E>> {
+
+    private static final int LIMPO = 0;
+    private static final int IFLAG = 1;
+    private static final int DFLAG = 2;
+    private static final int MARK = 3;
+
+    /**
+     * Estado do campo de atualização de um nó interno. Os objetos são
+     * imutáveis e comparados por identidade nas operações CAS.
+     */
+    private static final class Atualizacao {
+
+        static final Atualizacao INICIAL = new Atualizacao(LIMPO, null);
+
+        final int estado;
+        final Info info;
+
+        Atualizacao(int estado, Info info) {
+            this.estado = estado;
+            this.info = info;
+        }
+    }
+
+    /**
+     * Descrição de uma operação em andamento, suficiente para que qualquer
+     * thread a complete.
+     */
+    private abstract static class Info {
+    }
+
+    private static final class InfoInsercao extends Info {
+
+        final Interno pai;
+        final Folha folha;
+        final Interno novoInterno;
+        final Atualizacao sinal = new Atualizacao(IFLAG, this);
+
+        InfoInsercao(Interno pai, Folha folha, Interno novoInterno) {
+            this.pai = pai;
+            this.folha = folha;
+            this.novoInterno = novoInterno;
+        }
+    }
+
+    private static final class InfoExclusao extends Info {
+
+        final Interno avo;
+        final Interno pai;
+        final Folha folha;
+        final Atualizacao atualizacaoPai;
+        final Atualizacao sinal = new Atualizacao(DFLAG, this);
+
+        InfoExclusao(Interno avo, Interno pai, Folha folha, Atualizacao atualizacaoPai) {
+            this.avo = avo;
+            this.pai = pai;
+            this.folha = folha;
+            this.atualizacaoPai = atualizacaoPai;
+        }
+    }
+
+    /**
+     * Nó da árvore. Nos sentinelas {@code chave} é nula e {@code infinito}
+     * indica a sua ordem (1 ou 2) acima de todos os valores.
+     */
+    private abstract static class No {
+
+        final Object chave;
+        final int infinito;
+
+        No(Object chave, int infinito) {
+            this.chave = chave;
+            this.infinito = infinito;
+        }
+    }
+
+    private static final class Folha extends No {
+
+        Folha(Object chave, int infinito) {
+            super(chave, infinito);
+        }
+    }
+
+    private static final class Interno extends No {
+
+        volatile No esquerda;
+        volatile No direita;
+        volatile Atualizacao atualizacao = Atualizacao.INICIAL;
+
+        Interno(Object chave, int infinito, No esquerda, No direita) {
+            super(chave, infinito);
+            this.esquerda = esquerda;
+            this.direita = direita;
+        }
+    }
+
+    private static final AtomicReferenceFieldUpdater<Interno, No> ESQUERDA
+            = AtomicReferenceFieldUpdater.newUpdater(Interno.class, No.class, "esquerda");
+    private static final AtomicReferenceFieldUpdater<Interno, No> DIREITA
+            = AtomicReferenceFieldUpdater.newUpdater(Interno.class, No.class, "direita");
+    private static final AtomicReferenceFieldUpdater<Interno, Atualizacao> ATUALIZACAO
+            = AtomicReferenceFieldUpdater.newUpdater(Interno.class, Atualizacao.class, "atualizacao");
+
+    /**
+     * Resultado de uma descida da raiz até uma folha, com as atualizações
+     * lidas no pai e no avô antes de descer por eles.
+     */
+    private static final class Caminho {
+
+        Interno avo;
+        Interno pai;
+        Folha folha;
+        Atualizacao atualizacaoAvo;
+        Atualizacao atualizacaoPai;
+    }
+
+    private final Interno raiz = new Interno(null, 2, new Folha(null, 1), new Folha(null, 2));
+
+    /**
+     * Cria uma árvore vazia.
+     */
+    public ArvoreBinariaPesquisaSemBloqueio() {
+    }
+
+    /**
+     * Compara um valor com a chave de um nó. O valor {@code null} representa
+     * o primeiro sentinela, usado para localizar o maior valor da árvore.
+     */
+    @SuppressWarnings("unchecked")
+    private int compara(E valor, No no) {
+        if (valor == null) {
+            return no.infinito == 0 ? 1 : 1 - no.infinito;
+        }
+        return no.infinito != 0 ? -1 : valor.compareTo((E) no.chave);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compara(No a, No b) {
+        if (a.infinito != 0 || b.infinito != 0) {
+            return a.infinito - b.infinito;
+        }
+        return ((E) a.chave).compareTo((E) b.chave);
+    }
+
+    private Caminho localiza(E valor) {
+        Caminho caminho = new Caminho();
+        No no = raiz;
+        while (no instanceof Interno) {
+            caminho.avo = caminho.pai;
+            caminho.atualizacaoAvo = caminho.atualizacaoPai;
+            caminho.pai = (Interno) no;
+            caminho.atualizacaoPai = caminho.pai.atualizacao;
+            no = compara(valor, no) < 0 ? caminho.pai.esquerda : caminho.pai.direita;
+        }
+        caminho.folha = (Folha) no;
+        return caminho;
+    }
+
+    /**
+     * Pesquisa o valor especificado.
+     *
+     * @param valor O valor pesquisado
+     * @return O valor armazenado igual ao pesquisado ou {@code null} se não
+     * existir
+     */
+    @SuppressWarnings("unchecked")
+    public E pesquisa(E valor) {
+        No no = raiz;
+        while (no instanceof Interno) {
+            no = compara(valor, no) < 0 ? ((Interno) no).esquerda : ((Interno) no).direita;
+        }
+        return compara(valor, no) == 0 ? (E) no.chave : null;
+    }
+
+    /**
+     * Verifica se o valor especificado está na árvore.
+     *
+     * @param valor O valor pesquisado
+     * @return {@code true} se o valor estiver na árvore
+     */
+    public boolean contem(E valor) {
+        return pesquisa(valor) != null;
+    }
+
+    /**
+     * Insere o valor especificado.
+     *
+     * @param valor O valor a inserir
+     * @return {@code true} se o valor foi inserido, {@code false} se já
+     * estava na árvore
+     */
+    public boolean insere(E valor) {
+        if (valor == null) {
+            throw new NullPointerException();
+        }
+        Folha nova = new Folha(valor, 0);
+        while (true) {
+            Caminho caminho = localiza(valor);
+            Folha folha = caminho.folha;
+            if (compara(valor, folha) == 0) {
+                return false;
+            }
+            if (caminho.atualizacaoPai.estado != LIMPO) {
+                ajuda(caminho.atualizacaoPai);
+                continue;
+            }
+            Folha irma = new Folha(folha.chave, folha.infinito);
+            Interno novoInterno = compara(valor, folha) < 0
+                    ? new Interno(folha.chave, folha.infinito, nova, irma)
+                    : new Interno(valor, 0, irma, nova);
+            InfoInsercao info = new InfoInsercao(caminho.pai, folha, novoInterno);
+            if (ATUALIZACAO.compareAndSet(caminho.pai, caminho.atualizacaoPai, info.sinal)) {
+                completaInsercao(info);
+                return true;
+            }
+            ajuda(caminho.pai.atualizacao);
+        }
+    }
+
+    /**
+     * Exclui o valor especificado.
+     *
+     * @param valor O valor a excluir
+     * @return {@code true} se o valor estava na árvore
+     */
+    public boolean exclui(E valor) {
+        if (valor == null) {
+            throw new NullPointerException();
+        }
+        while (true) {
+            Caminho caminho = localiza(valor);
+            if (compara(valor, caminho.folha) != 0) {
+                return false;
+            }
+            if (caminho.atualizacaoAvo.estado != LIMPO) {
+                ajuda(caminho.atualizacaoAvo);
+                continue;
+            }
+            if (caminho.atualizacaoPai.estado != LIMPO) {
+                ajuda(caminho.atualizacaoPai);
+                continue;
+            }
+            InfoExclusao info = new InfoExclusao(caminho.avo, caminho.pai, caminho.folha, caminho.atualizacaoPai);
+            if (ATUALIZACAO.compareAndSet(caminho.avo, caminho.atualizacaoAvo, info.sinal)) {
+                if (completaExclusao(info)) {
+                    return true;
+                }
+            } else {
+                ajuda(caminho.avo.atualizacao);
+            }
+        }
+    }
+
+    /**
+     * Retorna o menor valor maior do que o especificado.
+     *
+     * @param valor O valor de referência
+     * @return O valor seguinte ou {@code null} se não existir
+     */
+    @SuppressWarnings("unchecked")
+    public E sucessor(E valor) {
+        Interno ultimoAEsquerda = null;
+        No no = raiz;
+        while (no instanceof Interno) {
+            Interno interno = (Interno) no;
+            if (compara(valor, interno) < 0) {
+                ultimoAEsquerda = interno;
+                no = interno.esquerda;
+            } else {
+                no = interno.direita;
+            }
+        }
+        if (compara(valor, no) < 0) {
+            return (E) no.chave;
+        }
+        return ultimoAEsquerda == null ? null : minimo(ultimoAEsquerda.direita);
+    }
+
+    /**
+     * Retorna o maior valor menor do que o especificado.
+     *
+     * @param valor O valor de referência
+     * @return O valor anterior ou {@code null} se não existir
+     */
+    @SuppressWarnings("unchecked")
+    public E predecessor(E valor) {
+        Interno ultimoADireita = null;
+        No no = raiz;
+        while (no instanceof Interno) {
+            Interno interno = (Interno) no;
+            if (compara(valor, interno) < 0) {
+                no = interno.esquerda;
+            } else {
+                ultimoADireita = interno;
+                no = interno.direita;
+            }
+        }
+        if (no.infinito == 0 && compara(valor, no) > 0) {
+            return (E) no.chave;
+        }
+        return ultimoADireita == null ? null : maximo(ultimoADireita.esquerda);
+    }
+
+    /**
+     * Retorna o menor valor da árvore.
+     *
+     * @return O menor valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMinimo() {
+        return minimo(raiz);
+    }
+
+    /**
+     * Retorna o maior valor da árvore.
+     *
+     * @return O maior valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMaximo() {
+        return predecessor(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E minimo(No no) {
+        while (no instanceof Interno) {
+            no = ((Interno) no).esquerda;
+        }
+        return no.infinito == 0 ? (E) no.chave : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E maximo(No no) {
+        while (no instanceof Interno) {
+            no = ((Interno) no).direita;
+        }
+        return no.infinito == 0 ? (E) no.chave : null;
+    }
+
+    /**
+     * Completa a operação registrada na atualização especificada.
+     */
+    private void ajuda(Atualizacao atualizacao) {
+        switch (atualizacao.estado) {
+            case IFLAG:
+                completaInsercao((InfoInsercao) atualizacao.info);
+                break;
+            case MARK:
+                completaRemocaoMarcada((InfoExclusao) atualizacao.info);
+                break;
+            case DFLAG:
+                completaExclusao((InfoExclusao) atualizacao.info);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void completaInsercao(InfoInsercao info) {
+        trocaFilho(info.pai, info.folha, info.novoInterno);
+        ATUALIZACAO.compareAndSet(info.pai, info.sinal, new Atualizacao(LIMPO, info));
+    }
+
+    /**
+     * Tenta marcar o pai da folha excluída. Se outra operação tiver alterado
+     * o pai desde a leitura, desfaz o sinal no avô e retorna {@code false}
+     * para que a exclusão seja repetida.
+     */
+    private boolean completaExclusao(InfoExclusao info) {
+        Atualizacao marca = new Atualizacao(MARK, info);
+        if (!ATUALIZACAO.compareAndSet(info.pai, info.atualizacaoPai, marca)) {
+            Atualizacao atual = info.pai.atualizacao;
+            if (atual.estado != MARK || atual.info != info) {
+                ajuda(atual);
+                ATUALIZACAO.compareAndSet(info.avo, info.sinal, new Atualizacao(LIMPO, info));
+                return false;
+            }
+        }
+        completaRemocaoMarcada(info);
+        return true;
+    }
+
+    private void completaRemocaoMarcada(InfoExclusao info) {
+        No outro = info.pai.direita == info.folha ? info.pai.esquerda : info.pai.direita;
+        trocaFilho(info.avo, info.pai, outro);
+        ATUALIZACAO.compareAndSet(info.avo, info.sinal, new Atualizacao(LIMPO, info));
+    }
+
+    private void trocaFilho(Interno pai, No antigo, No novo) {
+        if (compara(novo, pai) < 0) {
+            ESQUERDA.compareAndSet(pai, antigo, novo);
+        } else {
+            DIREITA.compareAndSet(pai, antigo, novo);
+        }
+    }
+}
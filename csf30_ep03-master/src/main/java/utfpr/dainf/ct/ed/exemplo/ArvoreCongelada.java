@@ -0,0 +1,252 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Versão imutável de uma árvore de pesquisa, obtida por
+ * {@link ArvoreBinariaPesquisa#congela()}. Os valores ficam num único vetor
+ * na ordem de Eytzinger (em largura): a raiz está na posição 1 e os filhos da
+ * posição {@code k} nas posições {@code 2k} e {@code 2k + 1}. Os primeiros
+ * níveis, visitados por todas as pesquisas, ocupam as primeiras linhas de
+ * cache do vetor, e cada descida avança sempre no mesmo sentido na memória,
+ * em vez de seguir referências espalhadas pelo heap.
+ *
+ * <p>
+ * As pesquisas descem até o fim do vetor sem desvios dependentes do
+ * resultado da comparação, exceto o próprio laço, e recuperam a posição da
+ * resposta a partir dos bits do índice final.
+ *
+ * @param <E> O tipo do valor armazenado na árvore
+ * @see LongArvoreCongelada
+ */
+public final class ArvoreCongelada<E extends Comparable<E>> implements Iterable<E> {
+
+    private final Object[] valores;
+    private final int tamanho;
+
+    /**
+     * Cria a árvore com os valores em ordem crescente.
+     */
+    ArvoreCongelada(Object[] ordenados) {
+        tamanho = ordenados.length;
+        valores = new Object[tamanho + 1];
+        preenche(ordenados, 0, 1);
+    }
+
+    /**
+     * Copia os valores ordenados, a partir de {@code i}, para a subárvore de
+     * raiz {@code k} em ordem simétrica, e retorna a próxima posição.
+     */
+    private int preenche(Object[] ordenados, int i, int k) {
+        if (k <= tamanho) {
+            i = preenche(ordenados, i, 2 * k);
+            valores[k] = ordenados[i++];
+            i = preenche(ordenados, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E valor(int k) {
+        return (E) valores[k];
+    }
+
+    /**
+     * Retorna a posição do primeiro valor maior ou igual ao especificado
+     * ({@code inclusivo}) ou estritamente maior, ou zero se não houver.
+     */
+    private int limiteInferior(E valor, boolean inclusivo) {
+        int limite = inclusivo ? 0 : 1;
+        int k = 1;
+        while (k <= tamanho) {
+            k = 2 * k + (valor(k).compareTo(valor) < limite ? 1 : 0);
+        }
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    private int primeiro() {
+        if (tamanho == 0) {
+            return 0;
+        }
+        int k = 1;
+        while (2 * k <= tamanho) {
+            k = 2 * k;
+        }
+        return k;
+    }
+
+    private int ultimo() {
+        if (tamanho == 0) {
+            return 0;
+        }
+        int k = 1;
+        while (2 * k + 1 <= tamanho) {
+            k = 2 * k + 1;
+        }
+        return k;
+    }
+
+    /**
+     * Retorna a posição seguinte em ordem simétrica, ou zero.
+     */
+    private int proxima(int k) {
+        if (2 * k + 1 <= tamanho) {
+            k = 2 * k + 1;
+            while (2 * k <= tamanho) {
+                k = 2 * k;
+            }
+            return k;
+        }
+        while ((k & 1) == 1) {
+            k >>>= 1;
+        }
+        return k >>> 1;
+    }
+
+    /**
+     * Retorna a posição anterior em ordem simétrica, ou zero.
+     */
+    private int anterior(int k) {
+        if (2 * k <= tamanho) {
+            k = 2 * k;
+            while (2 * k + 1 <= tamanho) {
+                k = 2 * k + 1;
+            }
+            return k;
+        }
+        while (k != 0 && (k & 1) == 0) {
+            k >>>= 1;
+        }
+        return k >>> 1;
+    }
+
+    /**
+     * Retorna o número de valores da árvore.
+     *
+     * @return O número de valores
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Pesquisa o valor especificado.
+     *
+     * @param valor O valor pesquisado
+     * @return O valor armazenado igual ao pesquisado ou {@code null} se não
+     * existir
+     */
+    public E pesquisa(E valor) {
+        int k = limiteInferior(valor, true);
+        return k != 0 && valor(k).compareTo(valor) == 0 ? valor(k) : null;
+    }
+
+    /**
+     * Verifica se o valor especificado está na árvore.
+     *
+     * @param valor O valor pesquisado
+     * @return {@code true} se o valor estiver na árvore
+     */
+    public boolean contem(E valor) {
+        return pesquisa(valor) != null;
+    }
+
+    /**
+     * Retorna o menor valor maior ou igual ao especificado.
+     *
+     * @param valor O valor de referência
+     * @return O valor encontrado ou {@code null} se não houver
+     */
+    public E teto(E valor) {
+        int k = limiteInferior(valor, true);
+        return k == 0 ? null : valor(k);
+    }
+
+    /**
+     * Retorna o maior valor menor ou igual ao especificado.
+     *
+     * @param valor O valor de referência
+     * @return O valor encontrado ou {@code null} se não houver
+     */
+    public E piso(E valor) {
+        int k = limiteInferior(valor, false);
+        k = k == 0 ? ultimo() : anterior(k);
+        return k == 0 ? null : valor(k);
+    }
+
+    /**
+     * Retorna o menor valor da árvore.
+     *
+     * @return O menor valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMinimo() {
+        int k = primeiro();
+        return k == 0 ? null : valor(k);
+    }
+
+    /**
+     * Retorna o maior valor da árvore.
+     *
+     * @return O maior valor ou {@code null} se a árvore estiver vazia
+     */
+    public E getMaximo() {
+        int k = ultimo();
+        return k == 0 ? null : valor(k);
+    }
+
+    /**
+     * Retorna os valores do intervalo especificado em ordem crescente, com a
+     * mesma convenção de {@link ArvoreBinariaPesquisa#faixa}: um limite nulo
+     * indica que o intervalo não é limitado daquele lado.
+     *
+     * @param de O limite inferior
+     * @param incluiDe Indica se o limite inferior pertence ao intervalo
+     * @param ate O limite superior
+     * @param incluiAte Indica se o limite superior pertence ao intervalo
+     * @return Um iterador sobre os valores do intervalo
+     */
+    public Iterator<E> faixa(E de, boolean incluiDe, E ate, boolean incluiAte) {
+        int inicio = de == null ? primeiro() : limiteInferior(de, incluiDe);
+        return new Iterator<E>() {
+            private int k = dentro(inicio) ? inicio : 0;
+
+            private boolean dentro(int posicao) {
+                if (posicao == 0 || ate == null) {
+                    return posicao != 0;
+                }
+                int comparacao = valor(posicao).compareTo(ate);
+                return comparacao < 0 || (incluiAte && comparacao == 0);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return k != 0;
+            }
+
+            @Override
+            public E next() {
+                if (k == 0) {
+                    throw new NoSuchElementException();
+                }
+                E valor = valor(k);
+                int seguinte = proxima(k);
+                k = dentro(seguinte) ? seguinte : 0;
+                return valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna um iterador sobre todos os valores em ordem crescente.
+     *
+     * @return O iterador
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return faixa(null, true, null, true);
+    }
+}
@@ -0,0 +1,312 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Exemplo de implementação de árvore rubro-negra. O balanceamento é mais
+ * frouxo que o de {@link ArvoreAVL}, com altura de até 2 log(n + 1), mas cada
+ * inserção faz no máximo duas rotações e cada exclusão no máximo três; o
+ * restante do ajuste é feito apenas trocando cores. Com isso a árvore é
+ * indicada para cargas com muitas inserções e exclusões, enquanto a
+ * {@link ArvoreAVL}, mais baixa, favorece as pesquisas.
+ *
+ * <p>
+ * Como em {@link ArvoreAVL}, valores repetidos são aceitos e ficam à direita
+ * dos já existentes, e a exclusão de um nó com dois filhos copia o valor do
+ * sucessor para o nó e remove o sucessor em seu lugar.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+public class ArvoreRubroNegra<E extends Comparable<E>> extends ArvoreBinariaPesquisa<E> {
+
+    protected boolean vermelho;
+
+    /**
+     * Cria uma árvore rubro-negra com o valor da raiz nulo.
+     */
+    public ArvoreRubroNegra() {
+    }
+
+    /**
+     * Cria uma árvore rubro-negra cuja raiz, preta, armazena o valor
+     * especificado.
+     *
+     * @param valor O valor a ser armazenado
+     */
+    public ArvoreRubroNegra(E valor) {
+        super(valor);
+    }
+
+    /**
+     * Indica se este nó é vermelho.
+     *
+     * @return {@code true} se o nó for vermelho, {@code false} se for preto
+     */
+    public boolean isVermelho() {
+        return vermelho;
+    }
+
+    /**
+     * Indica se o nó especificado é vermelho. Nós vazios são pretos.
+     */
+    private static boolean isVermelho(ArvoreBinaria<?> no) {
+        return no != null && ((ArvoreRubroNegra<?>) no).vermelho;
+    }
+
+    private static <E extends Comparable<E>> void pinta(ArvoreBinaria<E> no, boolean vermelho) {
+        if (no != null) {
+            ((ArvoreRubroNegra<E>) no).vermelho = vermelho;
+        }
+    }
+
+    /**
+     * Executa a operação de rotação à esquerda em torno do nó especificado e
+     * atualiza a altura dos ancestrais.
+     *
+     * @param x O nó pivô
+     * @return O nó que ocupou o lugar de x
+     */
+    protected ArvoreRubroNegra<E> rotacaoEsquerda(ArvoreRubroNegra<E> x) {
+        ArvoreRubroNegra<E> y = (ArvoreRubroNegra<E>) x.direita;
+        ArvoreBinariaPesquisa<E> pai = x.pai;
+
+        x.setDireita(y.esquerda);
+        if (y.esquerda != null) {
+            ((ArvoreRubroNegra<E>) y.esquerda).setPai(x);
+        }
+
+        y.setEsquerda(x);
+        y.setPai(pai);
+        x.setPai(y);
+
+        if (pai != null) {
+            if (x == pai.esquerda) {
+                pai.setEsquerda(y);
+            } else {
+                pai.setDireita(y);
+            }
+            atualizaAlturas(pai);
+        }
+        return y;
+    }
+
+    /**
+     * Executa a operação de rotação à direita em torno do nó especificado e
+     * atualiza a altura dos ancestrais.
+     *
+     * @param y O nó pivô
+     * @return O nó que ocupou o lugar de y
+     */
+    protected ArvoreRubroNegra<E> rotacaoDireita(ArvoreRubroNegra<E> y) {
+        ArvoreRubroNegra<E> x = (ArvoreRubroNegra<E>) y.esquerda;
+        ArvoreBinariaPesquisa<E> pai = y.pai;
+
+        y.setEsquerda(x.direita);
+        if (x.direita != null) {
+            ((ArvoreRubroNegra<E>) x.direita).setPai(y);
+        }
+
+        x.setDireita(y);
+        x.setPai(pai);
+        y.setPai(x);
+
+        if (pai != null) {
+            if (y == pai.esquerda) {
+                pai.setEsquerda(x);
+            } else {
+                pai.setDireita(x);
+            }
+            atualizaAlturas(pai);
+        }
+        return x;
+    }
+
+    /**
+     * Pinta o nó recém-inserido de vermelho e corrige as violações com o pai
+     * vermelho subindo pela árvore. Enquanto o tio for vermelho o ajuste é
+     * feito apenas com troca de cores; quando o tio é preto, uma rotação
+     * simples ou dupla encerra o ajuste.
+     *
+     * @param node O nó recém-inserido
+     */
+    @Override
+    protected void ajustaInsercao(ArvoreBinariaPesquisa<E> node) {
+        super.ajustaInsercao(node);
+        ArvoreRubroNegra<E> z = (ArvoreRubroNegra<E>) node;
+        z.vermelho = true;
+        while (isVermelho(z.pai)) {
+            ArvoreRubroNegra<E> p = (ArvoreRubroNegra<E>) z.pai;
+            ArvoreRubroNegra<E> g = (ArvoreRubroNegra<E>) p.pai;
+            if (p == g.esquerda) {
+                ArvoreRubroNegra<E> tio = (ArvoreRubroNegra<E>) g.direita;
+                if (isVermelho(tio)) {
+                    p.vermelho = false;
+                    tio.vermelho = false;
+                    g.vermelho = true;
+                    z = g;
+                    continue;
+                }
+                if (z == p.direita) {
+                    rotacaoEsquerda(p);
+                    p = z;
+                }
+                p.vermelho = false;
+                g.vermelho = true;
+                rotacaoDireita(g);
+            } else {
+                ArvoreRubroNegra<E> tio = (ArvoreRubroNegra<E>) g.esquerda;
+                if (isVermelho(tio)) {
+                    p.vermelho = false;
+                    tio.vermelho = false;
+                    g.vermelho = true;
+                    z = g;
+                    continue;
+                }
+                if (z == p.esquerda) {
+                    rotacaoDireita(p);
+                    p = z;
+                }
+                p.vermelho = false;
+                g.vermelho = true;
+                rotacaoEsquerda(g);
+            }
+            break;
+        }
+        if (z.pai == null) {
+            z.vermelho = false;
+        }
+    }
+
+    protected ArvoreRubroNegra<E> insere(ArvoreRubroNegra<E> node) {
+        super.insere(node);
+
+        return node;
+    }
+
+    public ArvoreRubroNegra<E> insere(E valor) {
+        return insere(new ArvoreRubroNegra<>(valor));
+    }
+
+    /**
+     * Exclui o valor especificado. Se o nó tiver dois filhos, recebe o valor
+     * do seu sucessor, que é então removido em seu lugar. Se o nó removido
+     * for preto, as cores são corrigidas subindo pela árvore com no máximo
+     * três rotações.
+     *
+     * @param valor O valor a ser excluído
+     * @return A raiz da árvore após a exclusão (nulo se a árvore ficar vazia)
+     */
+    public ArvoreRubroNegra<E> exclui(E valor) {
+        ArvoreRubroNegra<E> raiz = (ArvoreRubroNegra<E>) getRoot();
+
+        ArvoreRubroNegra<E> node = (ArvoreRubroNegra<E>) raiz.pesquisa(valor);
+        if (node == null) {
+            return raiz;
+        }
+
+        if (node.esquerda != null && node.direita != null) {
+            ArvoreRubroNegra<E> proximo = (ArvoreRubroNegra<E>) ((ArvoreRubroNegra<E>) node.direita).getMinimoRamo();
+            node.valor = proximo.valor;
+            node = proximo;
+        }
+
+        ArvoreRubroNegra<E> filho = (ArvoreRubroNegra<E>) (node.esquerda != null ? node.esquerda : node.direita);
+        ArvoreRubroNegra<E> pai = (ArvoreRubroNegra<E>) node.pai;
+
+        if (filho != null) {
+            filho.pai = pai;
+        }
+        descarta(node);
+
+        if (pai == null) {
+            pinta(filho, false);
+            return filho;
+        }
+
+        if (pai.esquerda == node) {
+            pai.esquerda = filho;
+        } else {
+            pai.direita = filho;
+        }
+
+        atualizaTamanhos(pai);
+        atualizaAlturas(pai);
+        if (!node.vermelho) {
+            ajustaExclusao(filho, pai);
+        }
+
+        return (ArvoreRubroNegra<E>) pai.getRoot();
+    }
+
+    /**
+     * Exclui o nó com o valor do nó especificado.
+     *
+     * @param node O nó cujo valor deve ser excluído
+     * @return A raiz da árvore após a exclusão (nulo se a árvore ficar vazia)
+     */
+    public ArvoreRubroNegra<E> exclui(ArvoreRubroNegra<E> node) {
+        return exclui(node.valor);
+    }
+
+    /**
+     * Corrige as cores após a remoção de um nó preto, cuja posição passou a
+     * ser ocupada por {@code x} (possivelmente vazio) sob {@code pai}. O
+     * caminho por {@code x} tem um nó preto a menos: enquanto o irmão e os
+     * seus filhos forem pretos, o irmão é pintado de vermelho e o déficit
+     * sobe um nível; caso contrário, até três rotações o eliminam.
+     */
+    private void ajustaExclusao(ArvoreRubroNegra<E> x, ArvoreRubroNegra<E> pai) {
+        while (pai != null && !isVermelho(x)) {
+            if (x == pai.esquerda) {
+                ArvoreRubroNegra<E> irmao = (ArvoreRubroNegra<E>) pai.direita;
+                if (irmao.vermelho) {
+                    irmao.vermelho = false;
+                    pai.vermelho = true;
+                    rotacaoEsquerda(pai);
+                    irmao = (ArvoreRubroNegra<E>) pai.direita;
+                }
+                if (!isVermelho(irmao.esquerda) && !isVermelho(irmao.direita)) {
+                    irmao.vermelho = true;
+                    x = pai;
+                    pai = (ArvoreRubroNegra<E>) x.pai;
+                    continue;
+                }
+                if (!isVermelho(irmao.direita)) {
+                    pinta(irmao.esquerda, false);
+                    irmao.vermelho = true;
+                    irmao = rotacaoDireita(irmao);
+                }
+                irmao.vermelho = pai.vermelho;
+                pai.vermelho = false;
+                pinta(irmao.direita, false);
+                rotacaoEsquerda(pai);
+            } else {
+                ArvoreRubroNegra<E> irmao = (ArvoreRubroNegra<E>) pai.esquerda;
+                if (irmao.vermelho) {
+                    irmao.vermelho = false;
+                    pai.vermelho = true;
+                    rotacaoDireita(pai);
+                    irmao = (ArvoreRubroNegra<E>) pai.esquerda;
+                }
+                if (!isVermelho(irmao.esquerda) && !isVermelho(irmao.direita)) {
+                    irmao.vermelho = true;
+                    x = pai;
+                    pai = (ArvoreRubroNegra<E>) x.pai;
+                    continue;
+                }
+                if (!isVermelho(irmao.esquerda)) {
+                    pinta(irmao.direita, false);
+                    irmao.vermelho = true;
+                    irmao = rotacaoEsquerda(irmao);
+                }
+                irmao.vermelho = pai.vermelho;
+                pai.vermelho = false;
+                pinta(irmao.esquerda, false);
+                rotacaoDireita(pai);
+            }
+            return;
+        }
+        pinta(x, false);
+    }
+}
@@ -0,0 +1,239 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Exemplo de implementação de árvore splay (Sleator e Tarjan). A árvore não
+ * guarda informação de balanceamento: cada pesquisa, inserção ou exclusão
+ * leva o nó acessado até a raiz por rotações, de modo que os valores
+ * acessados com frequência ficam perto da raiz. O custo amortizado de cada
+ * operação é O(log n) e, com acessos concentrados em poucos valores, fica
+ * próximo do custo de encontrar esses valores no topo da árvore.
+ *
+ * <p>
+ * No modo semi-splay, as pesquisas usam a variante de Sleator e Tarjan em que
+ * cada passo zig-zig faz uma única rotação e continua a partir do pai: o nó
+ * pesquisado sobe cerca de metade da profundidade, com metade das rotações
+ * nos trechos zig-zig, e a profundidade do restante do caminho ainda cai pela
+ * metade. Inserções e exclusões sempre levam o nó até a raiz.
+ *
+ * <p>
+ * Como a raiz muda a cada operação, os métodos que alteram a árvore retornam
+ * a nova raiz, e {@link #pesquisa(Comparable)} deve ser chamado sobre a raiz
+ * atual, obtida com {@link #getRoot()}.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+public class ArvoreSplay<E extends Comparable<E>> extends ArvoreBinariaPesquisa<E> {
+
+    protected final boolean semiSplay;
+
+    /**
+     * Cria uma árvore splay com o valor da raiz nulo.
+     */
+    public ArvoreSplay() {
+        semiSplay = false;
+    }
+
+    /**
+     * Cria uma árvore splay cuja raiz armazena o valor especificado.
+     *
+     * @param valor O valor a ser armazenado
+     */
+    public ArvoreSplay(E valor) {
+        this(valor, false);
+    }
+
+    /**
+     * Cria uma árvore splay cuja raiz armazena o valor especificado, no modo
+     * indicado. Os nós inseridos depois herdam o modo da árvore.
+     *
+     * @param valor O valor a ser armazenado
+     * @param semiSplay Indica se as pesquisas usam semi-splay
+     */
+    public ArvoreSplay(E valor, boolean semiSplay) {
+        super(valor);
+        this.semiSplay = semiSplay;
+    }
+
+    /**
+     * Indica se as pesquisas desta árvore usam semi-splay.
+     *
+     * @return {@code true} no modo semi-splay
+     */
+    public boolean isSemiSplay() {
+        return semiSplay;
+    }
+
+    /**
+     * Executa a rotação que coloca o nó especificado no lugar do seu pai. O
+     * tamanho e a altura do pai e do nó são recalculados a partir dos filhos;
+     * o avô recebe apenas a nova referência, já que sempre participa da
+     * próxima rotação do splay e é recalculado nela.
+     *
+     * @param x O nó a subir
+     */
+    private void rotaciona(ArvoreSplay<E> x) {
+        ArvoreSplay<E> p = (ArvoreSplay<E>) x.pai;
+        ArvoreBinariaPesquisa<E> g = p.pai;
+
+        if (x == p.esquerda) {
+            p.setEsquerda(x.direita);
+            if (x.direita != null) {
+                ((ArvoreSplay<E>) x.direita).setPai(p);
+            }
+            x.setDireita(p);
+        } else {
+            p.setDireita(x.esquerda);
+            if (x.esquerda != null) {
+                ((ArvoreSplay<E>) x.esquerda).setPai(p);
+            }
+            x.setEsquerda(p);
+        }
+        p.setPai(x);
+        x.setPai(g);
+
+        if (g != null) {
+            if (g.esquerda == p) {
+                g.esquerda = x;
+            } else {
+                g.direita = x;
+            }
+        }
+    }
+
+    /**
+     * Sobe o nó especificado por passos zig, zig-zig e zig-zag até que ele,
+     * ou no modo semi-splay o último nó rotacionado, seja a raiz. Todos os
+     * ancestrais do nó participam de alguma rotação, o que deixa os tamanhos
+     * e alturas do caminho atualizados mesmo que estivessem desatualizados
+     * antes do splay.
+     *
+     * @param x O nó acessado
+     * @param semi Indica se os passos zig-zig fazem uma única rotação
+     */
+    private void splay(ArvoreSplay<E> x, boolean semi) {
+        while (x.pai != null) {
+            ArvoreSplay<E> p = (ArvoreSplay<E>) x.pai;
+            ArvoreSplay<E> g = (ArvoreSplay<E>) p.pai;
+            if (g == null) {
+                rotaciona(x);
+            } else if ((x == p.esquerda) == (p == g.esquerda)) {
+                rotaciona(p);
+                if (semi) {
+                    x = p;
+                } else {
+                    rotaciona(x);
+                }
+            } else {
+                rotaciona(x);
+                rotaciona(x);
+            }
+        }
+    }
+
+    /**
+     * Retorna o nó com o valor especificado ou, se não existir, o último nó
+     * visitado na descida, sem alterar a árvore.
+     */
+    private ArvoreSplay<E> localiza(E valor) {
+        ArvoreSplay<E> no = this;
+        while (true) {
+            int comparacao = valor.compareTo(no.valor);
+            ArvoreSplay<E> filho = (ArvoreSplay<E>) (comparacao < 0 ? no.esquerda : no.direita);
+            if (comparacao == 0 || filho == null) {
+                return no;
+            }
+            no = filho;
+        }
+    }
+
+    /**
+     * Pesquisa o nó com o valor especificado e o leva em direção à raiz. Se o
+     * valor não existir, o último nó visitado é levado em seu lugar.
+     *
+     * @param value O valor pesquisado
+     * @return O nó com o valor pesquisado ou {@code null} se não existir
+     */
+    @Override
+    public ArvoreSplay<E> pesquisa(E value) {
+        ArvoreSplay<E> no = localiza(value);
+        splay(no, semiSplay);
+        return value.compareTo(no.valor) == 0 ? no : null;
+    }
+
+    /**
+     * Leva o nó recém-inserido até a raiz. As rotações recalculam o tamanho e
+     * a altura de todo o caminho, por isso os ancestrais não são atualizados
+     * antes.
+     *
+     * @param node O nó recém-inserido
+     */
+    @Override
+    protected void ajustaInsercao(ArvoreBinariaPesquisa<E> node) {
+        splay((ArvoreSplay<E>) node, false);
+    }
+
+    protected ArvoreSplay<E> insere(ArvoreSplay<E> node) {
+        super.insere(node);
+
+        return node;
+    }
+
+    /**
+     * Insere o valor especificado. O novo nó passa a ser a raiz.
+     *
+     * @param valor O valor a ser inserido
+     * @return O nó inserido, que é a nova raiz
+     */
+    public ArvoreSplay<E> insere(E valor) {
+        return insere(new ArvoreSplay<>(valor, semiSplay));
+    }
+
+    /**
+     * Exclui o valor especificado. O nó é levado até a raiz e removido; o
+     * maior nó da subárvore esquerda é então levado até o topo dessa
+     * subárvore, onde não tem filho direito, e recebe a subárvore direita.
+     * Se o valor não existir, o último nó visitado é levado até a raiz.
+     *
+     * @param valor O valor a ser excluído
+     * @return A raiz da árvore após a exclusão (nulo se a árvore ficar vazia)
+     */
+    public ArvoreSplay<E> exclui(E valor) {
+        ArvoreSplay<E> node = ((ArvoreSplay<E>) getRoot()).localiza(valor);
+        splay(node, false);
+        if (valor.compareTo(node.valor) != 0) {
+            return node;
+        }
+
+        ArvoreSplay<E> esquerda = (ArvoreSplay<E>) node.esquerda;
+        ArvoreSplay<E> direita = (ArvoreSplay<E>) node.direita;
+        descarta(node);
+        if (direita != null) {
+            direita.pai = null;
+        }
+        if (esquerda == null) {
+            return direita;
+        }
+
+        esquerda.pai = null;
+        ArvoreSplay<E> maximo = (ArvoreSplay<E>) esquerda.getMaximoRamo();
+        splay(maximo, false);
+        maximo.setDireita(direita);
+        if (direita != null) {
+            direita.setPai(maximo);
+        }
+        return maximo;
+    }
+
+    /**
+     * Exclui o nó com o valor do nó especificado.
+     *
+     * @param node O nó cujo valor deve ser excluído
+     * @return A raiz da árvore após a exclusão (nulo se a árvore ficar vazia)
+     */
+    public ArvoreSplay<E> exclui(ArvoreSplay<E> node) {
+        return exclui(node.valor);
+    }
+}
@@ -0,0 +1,209 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Cache de tamanho limitado para {@link ArvoreBinariaPesquisa#pesquisa}, que
+ * associa os valores pesquisados com frequência aos seus nós e evita a
+ * descida desde a raiz. Quando o cache está cheio, a entrada despejada é
+ * escolhida pelo algoritmo CLOCK: um ponteiro percorre as entradas em
+ * círculo, dando uma segunda chance às que foram usadas desde a última
+ * passagem.
+ *
+ * <p>
+ * O cache não precisa ser avisado das alterações na árvore. Cada acerto
+ * confere se o nó guardado ainda está na árvore e ainda guarda o valor
+ * pesquisado, o que cobre a exclusão do nó e também a exclusão de um nó com
+ * dois filhos, em que o valor do sucessor é copiado para outro nó e o nó do
+ * sucessor é removido. Entradas assim são descartadas e contadas como
+ * falhas. Inserções não invalidam entradas, já que pesquisas sem resultado
+ * não são guardadas.
+ *
+ * <p>
+ * Um cache deve ser usado com uma única árvore, e os valores devem ter
+ * {@link Object#equals(Object)} e {@link Object#hashCode()} consistentes com
+ * {@link Comparable#compareTo(Object)}. Assim como as árvores, o cache não é
+ * seguro para uso concorrente.
+ *
+ * @param <E> O tipo do valor armazenado na árvore
+ */
+public class CachePesquisa<E extends Comparable<E>> {
+
+    private final Map<E, Integer> posicoes;
+    private final Object[] valores;
+    private final ArvoreBinariaPesquisa<?>[] nos;
+    private final boolean[] usados;
+    private final int[] livres;
+    private int numeroLivres;
+    private int ponteiro;
+
+    private long acertos;
+    private long falhas;
+    private long despejos;
+    private long invalidacoes;
+
+    /**
+     * Cria um cache vazio com a capacidade especificada.
+     *
+     * @param capacidade O número máximo de entradas
+     * @throws IllegalArgumentException se a capacidade não for positiva
+     */
+    public CachePesquisa(int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade inválida: " + capacidade);
+        }
+        posicoes = new HashMap<>(capacidade * 4 / 3 + 1);
+        valores = new Object[capacidade];
+        nos = new ArvoreBinariaPesquisa<?>[capacidade];
+        usados = new boolean[capacidade];
+        livres = new int[capacidade];
+        limpa();
+    }
+
+    /**
+     * Pesquisa o valor especificado na árvore de raiz {@code raiz}, passando
+     * antes pelo cache.
+     *
+     * @param raiz A raiz da árvore
+     * @param valor O valor pesquisado
+     * @return O nó com o valor pesquisado ou {@code null} se não existir
+     */
+    @SuppressWarnings("unchecked")
+    public ArvoreBinariaPesquisa<E> pesquisa(ArvoreBinariaPesquisa<E> raiz, E valor) {
+        Integer posicao = posicoes.get(valor);
+        if (posicao != null) {
+            ArvoreBinariaPesquisa<E> no = (ArvoreBinariaPesquisa<E>) nos[posicao];
+            if (!no.isDescartado() && no.valor.compareTo(valor) == 0) {
+                usados[posicao] = true;
+                acertos++;
+                return no;
+            }
+            libera(posicao);
+            invalidacoes++;
+        }
+        falhas++;
+        ArvoreBinariaPesquisa<E> no = raiz.pesquisa(valor);
+        if (no != null) {
+            guarda(valor, no);
+        }
+        return no;
+    }
+
+    private void guarda(E valor, ArvoreBinariaPesquisa<E> no) {
+        int posicao = numeroLivres > 0 ? livres[--numeroLivres] : despeja();
+        valores[posicao] = valor;
+        nos[posicao] = no;
+        usados[posicao] = false;
+        posicoes.put(valor, posicao);
+    }
+
+    /**
+     * Avança o ponteiro até uma entrada não usada desde a última passagem,
+     * limpando a marca das usadas, e remove essa entrada. Só é chamado com o
+     * cache cheio.
+     */
+    private int despeja() {
+        while (usados[ponteiro]) {
+            usados[ponteiro] = false;
+            ponteiro = (ponteiro + 1) % valores.length;
+        }
+        int posicao = ponteiro;
+        ponteiro = (ponteiro + 1) % valores.length;
+        posicoes.remove(valores[posicao]);
+        despejos++;
+        return posicao;
+    }
+
+    private void libera(int posicao) {
+        posicoes.remove(valores[posicao]);
+        valores[posicao] = null;
+        nos[posicao] = null;
+        usados[posicao] = false;
+        livres[numeroLivres++] = posicao;
+    }
+
+    /**
+     * Remove todas as entradas. Os contadores não são alterados.
+     */
+    public void limpa() {
+        posicoes.clear();
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = null;
+            nos[i] = null;
+            usados[i] = false;
+            livres[i] = valores.length - 1 - i;
+        }
+        numeroLivres = valores.length;
+        ponteiro = 0;
+    }
+
+    /**
+     * Zera os contadores de acertos, falhas, despejos e invalidações.
+     */
+    public void zeraContadores() {
+        acertos = 0;
+        falhas = 0;
+        despejos = 0;
+        invalidacoes = 0;
+    }
+
+    /**
+     * Retorna o número máximo de entradas.
+     *
+     * @return A capacidade do cache
+     */
+    public int getCapacidade() {
+        return valores.length;
+    }
+
+    /**
+     * Retorna o número de entradas ocupadas.
+     *
+     * @return O número de entradas
+     */
+    public int getTamanho() {
+        return valores.length - numeroLivres;
+    }
+
+    /**
+     * Retorna o número de pesquisas respondidas pelo cache.
+     *
+     * @return O número de acertos
+     */
+    public long getAcertos() {
+        return acertos;
+    }
+
+    /**
+     * Retorna o número de pesquisas que desceram pela árvore, incluindo as
+     * que encontraram uma entrada invalidada.
+     *
+     * @return O número de falhas
+     */
+    public long getFalhas() {
+        return falhas;
+    }
+
+    /**
+     * Retorna o número de entradas removidas para dar lugar a outras.
+     *
+     * @return O número de despejos
+     */
+    public long getDespejos() {
+        return despejos;
+    }
+
+    /**
+     * Retorna o número de entradas descartadas por apontarem para um nó
+     * removido da árvore ou que passou a guardar outro valor.
+     *
+     * @return O número de invalidações
+     */
+    public long getInvalidacoes() {
+        return invalidacoes;
+    }
+}
@@ -0,0 +1,372 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Árvore AVL especializada para chaves {@code int}. As chaves ficam no
+ * próprio nó, sem objetos {@link Integer}, e são comparadas diretamente, sem
+ * chamadas a {@link Comparable#compareTo(Object)}. Pesquisa, inserção,
+ * exclusão e percurso não fazem boxing.
+ *
+ * <p>
+ * O balanceamento é o mesmo de {@link ArvoreAVL}, incluindo a aceitação de
+ * chaves repetidas, que ficam à direita das já existentes.
+ *
+ * @see LongArvoreAVL
+ */
+public class IntArvoreAVL {
+
+    private static final class No {
+
+        int chave;
+        byte fb;
+        No esquerda;
+        No direita;
+        No pai;
+
+        No(int chave, No pai) {
+            this.chave = chave;
+            this.pai = pai;
+        }
+    }
+
+    private No raiz;
+    private int tamanho;
+
+    /**
+     * Cria uma árvore vazia.
+     */
+    public IntArvoreAVL() {
+    }
+
+    /**
+     * Retorna o número de chaves da árvore.
+     *
+     * @return O número de chaves
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Verifica se a chave especificada está na árvore.
+     *
+     * @param chave A chave pesquisada
+     * @return {@code true} se a chave estiver na árvore
+     */
+    public boolean contem(int chave) {
+        return pesquisa(chave) != null;
+    }
+
+    private No pesquisa(int chave) {
+        No no = raiz;
+        while (no != null) {
+            if (chave == no.chave) {
+                return no;
+            }
+            no = chave < no.chave ? no.esquerda : no.direita;
+        }
+        return null;
+    }
+
+    /**
+     * Retorna a menor chave da árvore.
+     *
+     * @return A menor chave
+     * @throws NoSuchElementException se a árvore estiver vazia
+     */
+    public int getMinimo() {
+        if (raiz == null) {
+            throw new NoSuchElementException();
+        }
+        return minimo(raiz).chave;
+    }
+
+    /**
+     * Retorna a maior chave da árvore.
+     *
+     * @return A maior chave
+     * @throws NoSuchElementException se a árvore estiver vazia
+     */
+    public int getMaximo() {
+        if (raiz == null) {
+            throw new NoSuchElementException();
+        }
+        No no = raiz;
+        while (no.direita != null) {
+            no = no.direita;
+        }
+        return no.chave;
+    }
+
+    private static No minimo(No no) {
+        while (no.esquerda != null) {
+            no = no.esquerda;
+        }
+        return no;
+    }
+
+    private static No sucessor(No no) {
+        if (no.direita != null) {
+            return minimo(no.direita);
+        }
+        No pai = no.pai;
+        while (pai != null && pai.direita == no) {
+            no = pai;
+            pai = no.pai;
+        }
+        return pai;
+    }
+
+    /**
+     * Retorna um iterador sobre as chaves em ordem crescente, sem boxing se
+     * usado por {@link PrimitiveIterator.OfInt#nextInt()}. O iterador segue
+     * as referências para o pai e não deve ser usado após alterações na
+     * árvore.
+     *
+     * @return O iterador
+     */
+    public PrimitiveIterator.OfInt iterador() {
+        return new PrimitiveIterator.OfInt() {
+            private No proximo = raiz == null ? null : minimo(raiz);
+
+            @Override
+            public boolean hasNext() {
+                return proximo != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (proximo == null) {
+                    throw new NoSuchElementException();
+                }
+                int chave = proximo.chave;
+                proximo = sucessor(proximo);
+                return chave;
+            }
+        };
+    }
+
+    /**
+     * Executa a ação para cada chave, em ordem crescente.
+     *
+     * @param acao A ação a executar
+     */
+    public void paraCada(IntConsumer acao) {
+        for (No no = raiz == null ? null : minimo(raiz); no != null; no = sucessor(no)) {
+            acao.accept(no.chave);
+        }
+    }
+
+    /**
+     * Insere a chave especificada.
+     *
+     * @param chave A chave a inserir
+     */
+    public void insere(int chave) {
+        tamanho++;
+        if (raiz == null) {
+            raiz = new No(chave, null);
+            return;
+        }
+        No pai = raiz;
+        while (true) {
+            if (chave < pai.chave) {
+                if (pai.esquerda == null) {
+                    pai.esquerda = new No(chave, pai);
+                    ajustaFbInsercao(pai.esquerda);
+                    return;
+                }
+                pai = pai.esquerda;
+            } else {
+                if (pai.direita == null) {
+                    pai.direita = new No(chave, pai);
+                    ajustaFbInsercao(pai.direita);
+                    return;
+                }
+                pai = pai.direita;
+            }
+        }
+    }
+
+    /**
+     * Exclui uma ocorrência da chave especificada. Se o nó tiver dois filhos,
+     * recebe a chave do seu sucessor, que é então removido em seu lugar.
+     *
+     * @param chave A chave a excluir
+     * @return {@code true} se a chave estava na árvore
+     */
+    public boolean exclui(int chave) {
+        No no = pesquisa(chave);
+        if (no == null) {
+            return false;
+        }
+        tamanho--;
+
+        if (no.esquerda != null && no.direita != null) {
+            No proximo = minimo(no.direita);
+            no.chave = proximo.chave;
+            no = proximo;
+        }
+
+        No filho = no.esquerda != null ? no.esquerda : no.direita;
+        No pai = no.pai;
+        if (filho != null) {
+            filho.pai = pai;
+        }
+        if (pai == null) {
+            raiz = filho;
+            return true;
+        }
+
+        boolean isFilhoDaEsquerda = pai.esquerda == no;
+        if (isFilhoDaEsquerda) {
+            pai.esquerda = filho;
+        } else {
+            pai.direita = filho;
+        }
+        ajustaFbExclusao(pai, isFilhoDaEsquerda);
+        return true;
+    }
+
+    private void trocaFilho(No pai, No antigo, No novo) {
+        novo.pai = pai;
+        if (pai == null) {
+            raiz = novo;
+        } else if (pai.esquerda == antigo) {
+            pai.esquerda = novo;
+        } else {
+            pai.direita = novo;
+        }
+    }
+
+    private void rotacaoEsquerda(No x) {
+        No y = x.direita;
+        No pai = x.pai;
+
+        x.direita = y.esquerda;
+        if (y.esquerda != null) {
+            y.esquerda.pai = x;
+        }
+
+        y.esquerda = x;
+        x.pai = y;
+        trocaFilho(pai, x, y);
+    }
+
+    private void rotacaoDireita(No y) {
+        No x = y.esquerda;
+        No pai = y.pai;
+
+        y.esquerda = x.direita;
+        if (x.direita != null) {
+            x.direita.pai = y;
+        }
+
+        x.direita = y;
+        y.pai = x;
+        trocaFilho(pai, y, x);
+    }
+
+    /**
+     * Reequilibra o nó desregulado e retorna o nó que ocupou o seu lugar,
+     * como {@link ArvoreAVL#balanceia(ArvoreAVL)}.
+     */
+    private No balanceia(No p) {
+        if (p.fb < 0) {
+            No q = p.esquerda;
+            if (q.fb <= 0) {
+                rotacaoDireita(p);
+                if (q.fb == 0) {
+                    p.fb = -1;
+                    q.fb = 1;
+                } else {
+                    p.fb = 0;
+                    q.fb = 0;
+                }
+                return q;
+            }
+            No r = q.direita;
+            rotacaoEsquerda(q);
+            rotacaoDireita(p);
+            ajustaFbRotacaoDupla(q, r, p);
+            return r;
+        } else {
+            No q = p.direita;
+            if (q.fb >= 0) {
+                rotacaoEsquerda(p);
+                if (q.fb == 0) {
+                    p.fb = 1;
+                    q.fb = -1;
+                } else {
+                    p.fb = 0;
+                    q.fb = 0;
+                }
+                return q;
+            }
+            No r = q.esquerda;
+            rotacaoDireita(q);
+            rotacaoEsquerda(p);
+            ajustaFbRotacaoDupla(p, r, q);
+            return r;
+        }
+    }
+
+    private static void ajustaFbRotacaoDupla(No esq, No r, No dir) {
+        esq.fb = (byte) (r.fb > 0 ? -1 : 0);
+        dir.fb = (byte) (r.fb < 0 ? 1 : 0);
+        r.fb = 0;
+    }
+
+    private void ajustaFbInsercao(No no) {
+        No filho = no;
+        No comp = no.pai;
+        while (comp != null) {
+            if (filho == comp.esquerda) {
+                comp.fb--;
+            } else {
+                comp.fb++;
+            }
+            if (comp.fb == 0) {
+                break;
+            }
+            if (comp.fb < -1 || comp.fb > 1) {
+                balanceia(comp);
+                break;
+            }
+            filho = comp;
+            comp = comp.pai;
+        }
+    }
+
+    private void ajustaFbExclusao(No comp, boolean esquerda) {
+        while (comp != null) {
+            if (esquerda) {
+                comp.fb++;
+            } else {
+                comp.fb--;
+            }
+            if (comp.fb == 1 || comp.fb == -1) {
+                break;
+            }
+            if (comp.fb != 0) {
+                No filho = comp.fb < 0 ? comp.esquerda : comp.direita;
+                boolean mantemAltura = filho.fb == 0;
+                comp = balanceia(comp);
+                if (mantemAltura) {
+                    break;
+                }
+            }
+            No pai = comp.pai;
+            if (pai != null) {
+                esquerda = comp == pai.esquerda;
+            }
+            comp = pai;
+        }
+    }
+}
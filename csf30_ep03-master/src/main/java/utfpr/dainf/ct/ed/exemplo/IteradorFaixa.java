@@ -0,0 +1,68 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Iterador sobre os valores de um intervalo de uma árvore binária de
+ * pesquisa. Parte do primeiro nó do intervalo e avança por sucessores (ou
+ * predecessores) até ultrapassar o limite.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+class IteradorFaixa<E extends Comparable<E>> implements Iterator<E> {
+
+    private ArvoreBinariaPesquisa<E> proximo;
+    private final E limite;
+    private final boolean inclusivo;
+    private final boolean crescente;
+
+    /**
+     * Cria o iterador.
+     *
+     * @param primeiro O primeiro nó do intervalo (nulo se o intervalo for
+     * vazio)
+     * @param limite O valor que encerra o percurso (nulo para percorrer até o
+     * fim da árvore)
+     * @param inclusivo Indica se o limite pertence ao intervalo
+     * @param crescente Indica se o percurso é feito por sucessores
+     */
+    IteradorFaixa(ArvoreBinariaPesquisa<E> primeiro, E limite, boolean inclusivo, boolean crescente) {
+        this.limite = limite;
+        this.inclusivo = inclusivo;
+        this.crescente = crescente;
+        this.proximo = dentro(primeiro) ? primeiro : null;
+    }
+
+    private boolean dentro(ArvoreBinariaPesquisa<E> no) {
+        if (no == null || limite == null) {
+            return no != null;
+        }
+        int comparacao = no.valor.compareTo(limite);
+        if (comparacao == 0) {
+            return inclusivo;
+        }
+        return crescente ? comparacao < 0 : comparacao > 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return proximo != null;
+    }
+
+    @Override
+    public E next() {
+        if (proximo == null) {
+            throw new NoSuchElementException();
+        }
+        E valor = proximo.valor;
+        ArvoreBinariaPesquisa<E> seguinte = crescente
+                ? ArvoreBinariaPesquisa.sucessorDe(proximo)
+                : ArvoreBinariaPesquisa.predecessorDe(proximo);
+        proximo = dentro(seguinte) ? seguinte : null;
+        return valor;
+    }
+}
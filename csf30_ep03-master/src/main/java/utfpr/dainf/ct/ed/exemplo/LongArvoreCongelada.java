@@ -0,0 +1,201 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Versão imutável de uma {@link LongArvoreAVL}, obtida por
+ * {@link LongArvoreAVL#congela()}, com as chaves num vetor {@code long[]} na
+ * ordem de Eytzinger, como em {@link ArvoreCongelada}. Com chaves primitivas a
+ * escolha do filho na descida é uma comparação seguida de soma, que o
+ * compilador JIT traduz sem desvio condicional, e os oito descendentes de um
+ * nó três níveis abaixo dele ocupam uma única linha de cache de 64 bytes.
+ */
+public final class LongArvoreCongelada {
+
+    private final long[] chaves;
+    private final int tamanho;
+
+    /**
+     * Cria a árvore com as chaves em ordem crescente.
+     */
+    LongArvoreCongelada(long[] ordenadas) {
+        tamanho = ordenadas.length;
+        chaves = new long[tamanho + 1];
+        preenche(ordenadas, 0, 1);
+    }
+
+    private int preenche(long[] ordenadas, int i, int k) {
+        if (k <= tamanho) {
+            i = preenche(ordenadas, i, 2 * k);
+            chaves[k] = ordenadas[i++];
+            i = preenche(ordenadas, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    /**
+     * Retorna a posição da primeira chave maior ou igual à especificada, ou
+     * zero se não houver.
+     */
+    private int limiteInferior(long chave) {
+        int k = 1;
+        while (k <= tamanho) {
+            k = 2 * k + (chaves[k] < chave ? 1 : 0);
+        }
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    private int primeiro() {
+        if (tamanho == 0) {
+            return 0;
+        }
+        int k = 1;
+        while (2 * k <= tamanho) {
+            k = 2 * k;
+        }
+        return k;
+    }
+
+    private int ultimo() {
+        if (tamanho == 0) {
+            return 0;
+        }
+        int k = 1;
+        while (2 * k + 1 <= tamanho) {
+            k = 2 * k + 1;
+        }
+        return k;
+    }
+
+    private int proxima(int k) {
+        if (2 * k + 1 <= tamanho) {
+            k = 2 * k + 1;
+            while (2 * k <= tamanho) {
+                k = 2 * k;
+            }
+            return k;
+        }
+        while ((k & 1) == 1) {
+            k >>>= 1;
+        }
+        return k >>> 1;
+    }
+
+    private int anterior(int k) {
+        if (2 * k <= tamanho) {
+            k = 2 * k;
+            while (2 * k + 1 <= tamanho) {
+                k = 2 * k + 1;
+            }
+            return k;
+        }
+        while (k != 0 && (k & 1) == 0) {
+            k >>>= 1;
+        }
+        return k >>> 1;
+    }
+
+    /**
+     * Retorna o número de chaves da árvore.
+     *
+     * @return O número de chaves
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Verifica se a chave especificada está na árvore.
+     *
+     * @param chave A chave pesquisada
+     * @return {@code true} se a chave estiver na árvore
+     */
+    public boolean contem(long chave) {
+        int k = limiteInferior(chave);
+        return k != 0 && chaves[k] == chave;
+    }
+
+    /**
+     * Retorna a menor chave maior ou igual à especificada.
+     *
+     * @param chave A chave de referência
+     * @return A chave encontrada, se houver
+     */
+    public OptionalLong teto(long chave) {
+        int k = limiteInferior(chave);
+        return k == 0 ? OptionalLong.empty() : OptionalLong.of(chaves[k]);
+    }
+
+    /**
+     * Retorna a maior chave menor ou igual à especificada.
+     *
+     * @param chave A chave de referência
+     * @return A chave encontrada, se houver
+     */
+    public OptionalLong piso(long chave) {
+        int k = chave == Long.MAX_VALUE ? 0 : limiteInferior(chave + 1);
+        k = k == 0 ? ultimo() : anterior(k);
+        return k == 0 ? OptionalLong.empty() : OptionalLong.of(chaves[k]);
+    }
+
+    /**
+     * Retorna as chaves do intervalo fechado [de, ate] em ordem crescente.
+     *
+     * @param de O limite inferior
+     * @param ate O limite superior
+     * @return Um iterador sobre as chaves do intervalo
+     */
+    public PrimitiveIterator.OfLong faixa(long de, long ate) {
+        int inicio = limiteInferior(de);
+        return new PrimitiveIterator.OfLong() {
+            private int k = inicio != 0 && chaves[inicio] <= ate ? inicio : 0;
+
+            @Override
+            public boolean hasNext() {
+                return k != 0;
+            }
+
+            @Override
+            public long nextLong() {
+                if (k == 0) {
+                    throw new NoSuchElementException();
+                }
+                long chave = chaves[k];
+                int seguinte = proxima(k);
+                k = seguinte != 0 && chaves[seguinte] <= ate ? seguinte : 0;
+                return chave;
+            }
+        };
+    }
+
+    /**
+     * Retorna um iterador sobre todas as chaves em ordem crescente.
+     *
+     * @return O iterador
+     */
+    public PrimitiveIterator.OfLong iterador() {
+        return new PrimitiveIterator.OfLong() {
+            private int k = primeiro();
+
+            @Override
+            public boolean hasNext() {
+                return k != 0;
+            }
+
+            @Override
+            public long nextLong() {
+                if (k == 0) {
+                    throw new NoSuchElementException();
+                }
+                long chave = chaves[k];
+                k = proxima(k);
+                return chave;
+            }
+        };
+    }
+}
@@ -0,0 +1,199 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Tarefas fork-join das operações em massa de
+ * {@link ArvoreBinariaPesquisa}. Assim como {@link SpliteratorArvore}, cada
+ * tarefa cobre as posições [inicio, fim) do percurso em-ordem e se divide ao
+ * meio pela posição, e não pelos filhos da raiz, de modo que a profundidade
+ * das tarefas é O(log n) mesmo em árvores degeneradas. Intervalos com até
+ * {@link #LIMITE_SEQUENCIAL} valores são percorridos sequencialmente a partir
+ * do nó localizado com {@link ArvoreBinariaPesquisa#seleciona(int)}.
+ */
+final class OperacoesParalelas {
+
+    /**
+     * Número máximo de valores processados sem criar novas tarefas.
+     */
+    static final int LIMITE_SEQUENCIAL = 1 << 12;
+
+    private OperacoesParalelas() {
+    }
+
+    private static <E extends Comparable<E>> int tamanho(ArvoreBinariaPesquisa<E> raiz) {
+        return raiz == null ? 0 : raiz.tamanho;
+    }
+
+    private static <E extends Comparable<E>> void visita(ArvoreBinariaPesquisa<E> raiz, int inicio, int fim,
+            Consumer<? super E> acao) {
+        if (inicio >= fim) {
+            return;
+        }
+        ArvoreBinariaPesquisa<E> no = raiz.seleciona(inicio);
+        for (int i = inicio; i < fim; i++) {
+            acao.accept(no.valor);
+            no = ArvoreBinariaPesquisa.sucessorDe(no);
+        }
+    }
+
+    static final class ParaCada<E extends Comparable<E>> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ArvoreBinariaPesquisa<E> raiz;
+        private final int inicio;
+        private final int fim;
+        private final Consumer<? super E> acao;
+
+        ParaCada(ArvoreBinariaPesquisa<E> raiz, Consumer<? super E> acao) {
+            this(raiz, 0, tamanho(raiz), acao);
+        }
+
+        private ParaCada(ArvoreBinariaPesquisa<E> raiz, int inicio, int fim, Consumer<? super E> acao) {
+            this.raiz = raiz;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.acao = acao;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMITE_SEQUENCIAL) {
+                visita(raiz, inicio, fim, acao);
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            ParaCada<E> esquerda = new ParaCada<>(raiz, inicio, meio, acao);
+            esquerda.fork();
+            new ParaCada<>(raiz, meio, fim, acao).compute();
+            esquerda.join();
+        }
+    }
+
+    static final class Reduz<E extends Comparable<E>> extends RecursiveTask<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ArvoreBinariaPesquisa<E> raiz;
+        private final int inicio;
+        private final int fim;
+        private final E identidade;
+        private final BinaryOperator<E> operador;
+
+        Reduz(ArvoreBinariaPesquisa<E> raiz, E identidade, BinaryOperator<E> operador) {
+            this(raiz, 0, tamanho(raiz), identidade, operador);
+        }
+
+        private Reduz(ArvoreBinariaPesquisa<E> raiz, int inicio, int fim, E identidade, BinaryOperator<E> operador) {
+            this.raiz = raiz;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.identidade = identidade;
+            this.operador = operador;
+        }
+
+        @Override
+        protected E compute() {
+            if (fim - inicio <= LIMITE_SEQUENCIAL) {
+                if (inicio >= fim) {
+                    return identidade;
+                }
+                ArvoreBinariaPesquisa<E> no = raiz.seleciona(inicio);
+                E acumulado = identidade;
+                for (int i = inicio; i < fim; i++) {
+                    acumulado = operador.apply(acumulado, no.valor);
+                    no = ArvoreBinariaPesquisa.sucessorDe(no);
+                }
+                return acumulado;
+            }
+            int meio = (inicio + fim) >>> 1;
+            Reduz<E> esquerda = new Reduz<>(raiz, inicio, meio, identidade, operador);
+            esquerda.fork();
+            E direita = new Reduz<>(raiz, meio, fim, identidade, operador).compute();
+            return operador.apply(esquerda.join(), direita);
+        }
+    }
+
+    static final class Conta<E extends Comparable<E>> extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ArvoreBinariaPesquisa<E> raiz;
+        private final int inicio;
+        private final int fim;
+        private final Predicate<? super E> predicado;
+
+        Conta(ArvoreBinariaPesquisa<E> raiz, Predicate<? super E> predicado) {
+            this(raiz, 0, tamanho(raiz), predicado);
+        }
+
+        private Conta(ArvoreBinariaPesquisa<E> raiz, int inicio, int fim, Predicate<? super E> predicado) {
+            this.raiz = raiz;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.predicado = predicado;
+        }
+
+        @Override
+        protected Long compute() {
+            if (fim - inicio <= LIMITE_SEQUENCIAL) {
+                long[] conta = new long[1];
+                visita(raiz, inicio, fim, valor -> {
+                    if (predicado.test(valor)) {
+                        conta[0]++;
+                    }
+                });
+                return conta[0];
+            }
+            int meio = (inicio + fim) >>> 1;
+            Conta<E> esquerda = new Conta<>(raiz, inicio, meio, predicado);
+            esquerda.fork();
+            long conta = new Conta<>(raiz, meio, fim, predicado).compute();
+            return conta + esquerda.join();
+        }
+    }
+
+    static final class Coleta<E extends Comparable<E>, A> extends RecursiveTask<A> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ArvoreBinariaPesquisa<E> raiz;
+        private final int inicio;
+        private final int fim;
+        private final Collector<? super E, A, ?> coletor;
+
+        Coleta(ArvoreBinariaPesquisa<E> raiz, Collector<? super E, A, ?> coletor) {
+            this(raiz, 0, tamanho(raiz), coletor);
+        }
+
+        private Coleta(ArvoreBinariaPesquisa<E> raiz, int inicio, int fim, Collector<? super E, A, ?> coletor) {
+            this.raiz = raiz;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.coletor = coletor;
+        }
+
+        @Override
+        protected A compute() {
+            if (fim - inicio <= LIMITE_SEQUENCIAL) {
+                A recipiente = coletor.supplier().get();
+                visita(raiz, inicio, fim, valor -> coletor.accumulator().accept(recipiente, valor));
+                return recipiente;
+            }
+            int meio = (inicio + fim) >>> 1;
+            Coleta<E, A> esquerda = new Coleta<>(raiz, inicio, meio, coletor);
+            esquerda.fork();
+            A direita = new Coleta<>(raiz, meio, fim, coletor).compute();
+            return coletor.combiner().apply(esquerda.join(), direita);
+        }
+    }
+}
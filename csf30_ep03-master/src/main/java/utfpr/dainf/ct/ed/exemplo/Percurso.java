@@ -0,0 +1,59 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Percurso iterativo sobre os nós de uma árvore binária. O estado do percurso
+ * fica neste objeto e não nos nós da árvore, de modo que vários percursos
+ * podem ser feitos simultaneamente sobre a mesma árvore, desde que ela não
+ * seja modificada.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+public abstract class Percurso<E> implements Iterator<ArvoreBinaria<E>> {
+
+    private ArvoreBinaria<E> proximo;
+    private boolean antecipado;
+
+    /**
+     * Avança o percurso.
+     *
+     * @return O próximo nó do percurso ou {@code null} se o percurso terminou
+     */
+    protected abstract ArvoreBinaria<E> avanca();
+
+    /**
+     * Retorna o próximo nó do percurso.
+     *
+     * @return O próximo nó ou {@code null} se o percurso terminou
+     */
+    public ArvoreBinaria<E> proximo() {
+        if (antecipado) {
+            antecipado = false;
+            return proximo;
+        }
+        return avanca();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!antecipado) {
+            proximo = avanca();
+            antecipado = true;
+        }
+        return proximo != null;
+    }
+
+    @Override
+    public ArvoreBinaria<E> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        antecipado = false;
+        return proximo;
+    }
+}
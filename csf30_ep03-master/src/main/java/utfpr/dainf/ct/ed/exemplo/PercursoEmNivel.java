@@ -0,0 +1,41 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.ArrayDeque;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Percurso em nível (em largura).
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+public class PercursoEmNivel<E> extends Percurso<E> {
+
+    private final ArrayDeque<ArvoreBinaria<E>> fila = new ArrayDeque<>();
+
+    /**
+     * Cria um percurso em nível da subárvore especificada.
+     *
+     * @param raiz A raiz da subárvore
+     */
+    public PercursoEmNivel(ArvoreBinaria<E> raiz) {
+        if (raiz != null) {
+            fila.add(raiz);
+        }
+    }
+
+    @Override
+    protected ArvoreBinaria<E> avanca() {
+        ArvoreBinaria<E> retorno = fila.poll();
+        if (retorno != null) {
+            if (retorno.esquerda != null) {
+                fila.add(retorno.esquerda);
+            }
+            if (retorno.direita != null) {
+                fila.add(retorno.direita);
+            }
+        }
+        return retorno;
+    }
+}
@@ -0,0 +1,39 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Percurso em-ordem iterativo.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+public class PercursoEmOrdem<E> extends Percurso<E> {
+
+    private final Pilha<ArvoreBinaria<E>> pilha;
+    private ArvoreBinaria<E> ultimoVisitado;
+
+    /**
+     * Cria um percurso em-ordem da subárvore especificada.
+     *
+     * @param raiz A raiz da subárvore
+     */
+    public PercursoEmOrdem(ArvoreBinaria<E> raiz) {
+        pilha = new Pilha<>(Pilha.capacidade(raiz));
+        ultimoVisitado = raiz;
+    }
+
+    @Override
+    protected ArvoreBinaria<E> avanca() {
+        ArvoreBinaria<E> retorno = null;
+        if (!pilha.isVazia() || ultimoVisitado != null) {
+            while (ultimoVisitado != null) {
+                pilha.empilha(ultimoVisitado);
+                ultimoVisitado = ultimoVisitado.esquerda;
+            }
+            retorno = pilha.desempilha();
+            ultimoVisitado = retorno.direita;
+        }
+        return retorno;
+    }
+}
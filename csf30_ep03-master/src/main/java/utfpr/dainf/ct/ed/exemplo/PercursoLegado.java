@@ -0,0 +1,46 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.function.Supplier;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Estado dos métodos {@code proximo*} obsoletos de {@link ArvoreBinaria}. É
+ * criado apenas no nó em que um desses percursos é iniciado e guarda o
+ * percurso em andamento e o seu tipo, de modo que um percurso que terminou
+ * continua retornando {@code null} até ser reiniciado.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+final class PercursoLegado<E> {
+
+    private Class<?> tipo;
+    private Percurso<E> percurso;
+    private boolean terminado;
+
+    /**
+     * Avança o percurso, criando um novo se o percurso atual for de outro
+     * tipo.
+     *
+     * @param tipo A classe do percurso desejado
+     * @param criador Cria o percurso a partir do nó em que foi iniciado
+     * @return O próximo nó ou {@code null} se o percurso terminou
+     */
+    ArvoreBinaria<E> proximo(Class<?> tipo, Supplier<Percurso<E>> criador) {
+        if (this.tipo != tipo) {
+            this.tipo = tipo;
+            percurso = criador.get();
+            terminado = false;
+        }
+        if (terminado) {
+            return null;
+        }
+        ArvoreBinaria<E> no = percurso.proximo();
+        if (no == null) {
+            terminado = true;
+            percurso = null;
+        }
+        return no;
+    }
+}
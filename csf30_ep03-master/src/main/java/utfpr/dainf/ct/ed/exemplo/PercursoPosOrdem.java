@@ -0,0 +1,59 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Percurso em pós-ordem iterativo.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+public class PercursoPosOrdem<E> extends Percurso<E> {
+
+    private final Pilha<ArvoreBinaria<E>> pilha;
+    private ArvoreBinaria<E> ultimoVisitado;
+    private ArvoreBinaria<E> raiz;
+
+    /**
+     * Cria um percurso em pós-ordem da subárvore especificada.
+     *
+     * @param raiz A raiz da subárvore
+     */
+    public PercursoPosOrdem(ArvoreBinaria<E> raiz) {
+        pilha = new Pilha<>(Pilha.capacidade(raiz));
+        this.raiz = raiz;
+        // a raiz não é filha de nenhum nó do percurso, logo serve como valor
+        // inicial que não coincide com um filho nulo
+        this.ultimoVisitado = raiz;
+    }
+
+    @Override
+    protected ArvoreBinaria<E> avanca() {
+        ArvoreBinaria<E> retorno;
+
+        if (raiz != null) {
+            retorno = raiz;
+            raiz = null;
+        } else if (pilha.isVazia()) {
+            return null;
+        } else {
+            retorno = pilha.desempilha();
+        }
+
+        while (true) {
+            if (retorno.esquerda != null
+                    && retorno.esquerda != ultimoVisitado
+                    && retorno.direita != ultimoVisitado) {
+                pilha.empilha(retorno);
+                retorno = retorno.esquerda;
+            } else if (retorno.direita != null
+                    && retorno.direita != ultimoVisitado) {
+                pilha.empilha(retorno);
+                retorno = retorno.direita;
+            } else {
+                ultimoVisitado = retorno;
+                return retorno;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Percurso em pré-ordem iterativo.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+public class PercursoPreOrdem<E> extends Percurso<E> {
+
+    private final Pilha<ArvoreBinaria<E>> pilha;
+
+    /**
+     * Cria um percurso em pré-ordem da subárvore especificada.
+     *
+     * @param raiz A raiz da subárvore
+     */
+    public PercursoPreOrdem(ArvoreBinaria<E> raiz) {
+        pilha = new Pilha<>(Pilha.capacidade(raiz));
+        if (raiz != null) {
+            pilha.empilha(raiz);
+        }
+    }
+
+    @Override
+    protected ArvoreBinaria<E> avanca() {
+        if (pilha.isVazia()) {
+            return null;
+        }
+        ArvoreBinaria<E> retorno = pilha.desempilha();
+        if (retorno.direita != null) {
+            pilha.empilha(retorno.direita);
+        }
+        if (retorno.esquerda != null) {
+            pilha.empilha(retorno.esquerda);
+        }
+        return retorno;
+    }
+}
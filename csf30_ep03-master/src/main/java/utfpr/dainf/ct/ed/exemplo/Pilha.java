@@ -0,0 +1,62 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.Arrays;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * Pilha sem sincronização baseada em vetor, usada pelos percursos iterativos.
+ * Ao contrário de {@link java.util.Stack}, as operações não adquirem monitor
+ * e, se a capacidade inicial for suficiente, não há alocação após a criação.
+ *
+ * @param <T> O tipo dos elementos da pilha
+ */
+class Pilha<T> {
+
+    private Object[] elementos;
+    private int topo;
+
+    /**
+     * Cria uma pilha vazia com a capacidade especificada. A pilha cresce se a
+     * capacidade for excedida.
+     *
+     * @param capacidade A capacidade inicial
+     */
+    Pilha(int capacidade) {
+        elementos = new Object[Math.max(capacidade, 1)];
+    }
+
+    /**
+     * Retorna a capacidade adequada para percorrer a subárvore especificada.
+     * Se o nó mantém a altura em cache, nenhum caminho da raiz a uma folha
+     * excede a altura mais um nós; caso contrário usa um valor padrão.
+     *
+     * @param raiz A raiz da subárvore
+     * @return A capacidade inicial da pilha
+     */
+    static int capacidade(ArvoreBinaria<?> raiz) {
+        if (raiz == null) {
+            return 1;
+        }
+        return raiz.isAlturaEmCache() ? raiz.altura + 1 : 16;
+    }
+
+    void empilha(T elemento) {
+        if (topo == elementos.length) {
+            elementos = Arrays.copyOf(elementos, topo * 2);
+        }
+        elementos[topo++] = elemento;
+    }
+
+    @SuppressWarnings("unchecked")
+    T desempilha() {
+        T elemento = (T) elementos[--topo];
+        elementos[topo] = null;
+        return elemento;
+    }
+
+    boolean isVazia() {
+        return topo == 0;
+    }
+}
@@ -0,0 +1,113 @@
+package utfpr.dainf.ct.ed.exemplo;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * UTFPR - Universidade Tecnológica Federal do Paraná DAINF - Departamento
+ * Acadêmico de Informática
+ *
+ * {@link Spliterator} sobre os valores de uma árvore binária de pesquisa em
+ * ordem crescente. Cobre as posições [inicio, fim) do percurso em-ordem e se
+ * divide ao meio usando os tamanhos das subárvores: o nó da posição de corte é
+ * localizado com {@link ArvoreBinariaPesquisa#seleciona(int)} em O(log n),
+ * de modo que cada parte tem tamanho exato e pode ser processada em paralelo.
+ * A árvore não deve ser modificada enquanto o spliterator estiver em uso.
+ *
+ * @param <E> O tipo do valor armazenado nos nós da árvore
+ */
+class SpliteratorArvore<E extends Comparable<E>> implements Spliterator<E> {
+
+    private final ArvoreBinariaPesquisa<E> raiz;
+    private ArvoreBinariaPesquisa<E> atual;
+    private int inicio;
+    private final int fim;
+
+    /**
+     * Cria um spliterator sobre as posições [inicio, fim) da árvore.
+     *
+     * @param raiz A raiz da árvore
+     * @param atual O nó na posição inicio ou {@code null} para localizá-lo na
+     * primeira utilização
+     * @param inicio A primeira posição (inclusive)
+     * @param fim A última posição (exclusive)
+     */
+    SpliteratorArvore(ArvoreBinariaPesquisa<E> raiz, ArvoreBinariaPesquisa<E> atual, int inicio, int fim) {
+        this.raiz = raiz;
+        this.atual = atual;
+        this.inicio = inicio;
+        this.fim = fim;
+    }
+
+    private ArvoreBinariaPesquisa<E> atual() {
+        if (atual == null) {
+            atual = raiz.seleciona(inicio);
+        }
+        return atual;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (inicio >= fim) {
+            return false;
+        }
+        ArvoreBinariaPesquisa<E> no = atual();
+        action.accept(no.valor);
+        inicio++;
+        atual = inicio < fim ? ArvoreBinariaPesquisa.sucessorDe(no) : null;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        if (inicio >= fim) {
+            return;
+        }
+        ArvoreBinariaPesquisa<E> no = atual();
+        int restantes = fim - inicio;
+        inicio = fim;
+        atual = null;
+        while (true) {
+            action.accept(no.valor);
+            if (--restantes == 0) {
+                break;
+            }
+            no = ArvoreBinariaPesquisa.sucessorDe(no);
+        }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        int meio = (inicio + fim) >>> 1;
+        if (meio <= inicio) {
+            return null;
+        }
+        Spliterator<E> prefixo = new SpliteratorArvore<>(raiz, atual, inicio, meio);
+        inicio = meio;
+        atual = null;
+        return prefixo;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fim - inicio;
+    }
+
+    /**
+     * Os valores são ordenados e a quantidade de cada parte é exata. Como a
+     * árvore admite valores repetidos, {@link Spliterator#DISTINCT} não é
+     * informado.
+     *
+     * @return As características do spliterator
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | SORTED | SIZED | SUBSIZED | NONNULL;
+    }
+
+    @Override
+    public Comparator<? super E> getComparator() {
+        return null;
+    }
+}